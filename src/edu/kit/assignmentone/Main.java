@@ -1,10 +1,16 @@
 package edu.kit.assignmentone;
 
+import edu.kit.assignmentone.model.EngineType;
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.io.ResourceLoader;
+import edu.kit.assignmentone.model.simulation.SelfPlaySimulator;
 import edu.kit.assignmentone.ui.CommandHandler;
+import edu.kit.assignmentone.ui.TerminalMode;
+import edu.kit.assignmentone.ui.Verbosity;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * The main entry point for the application.
@@ -15,6 +21,7 @@ import java.io.IOException;
 public final class Main {
 
     private static final int REQUIRED_ARGUMENTS_COUNT = 4;
+    private static final int MAXIMUM_ARGUMENTS_COUNT = 8;
 
     private Main() {
         // Prevent instantiation
@@ -26,7 +33,7 @@ public final class Main {
      * @param arguments the command line arguments
      */
     public static void main(String[] arguments) {
-        if (arguments.length != REQUIRED_ARGUMENTS_COUNT) {
+        if (arguments.length < REQUIRED_ARGUMENTS_COUNT || arguments.length > MAXIMUM_ARGUMENTS_COUNT) {
             System.err.println(StringConstants.ERROR_PREFIX + StringConstants.ERROR_ARGUMENT_FORMAT);
             return;
         }
@@ -34,6 +41,11 @@ public final class Main {
         long randomSeed = 0;
         String deckFilePath = StringConstants.EMPTY_STRING;
         String unitsFilePath = StringConstants.EMPTY_STRING;
+        EngineType engineType = EngineType.GREEDY;
+        Verbosity verbosity = Verbosity.ALL;
+        TerminalMode terminalMode = TerminalMode.PLAIN;
+        int simulatedGames = 0;
+        String scriptFilePath = StringConstants.EMPTY_STRING;
 
         try {
             for (String argument : arguments) {
@@ -49,19 +61,37 @@ public final class Main {
                 switch (key) {
                     case StringConstants.ARGUMENT_SEED -> randomSeed = Long.parseLong(value);
                     case StringConstants.ARGUMENT_DECK -> deckFilePath = value;
-                    case StringConstants.ARGUMENT_VERBOSITY -> {
-                        // Parsed but intentionally ignored
-                    }
+                    case StringConstants.ARGUMENT_VERBOSITY -> verbosity = Verbosity.fromString(value);
                     case StringConstants.ARGUMENT_UNITS -> unitsFilePath = value;
+                    case StringConstants.ARGUMENT_ENGINE -> engineType = EngineType.fromString(value);
+                    case StringConstants.ARGUMENT_TERMINAL -> terminalMode = TerminalMode.fromString(value);
+                    case StringConstants.ARGUMENT_SCRIPT -> scriptFilePath = value;
+                    case StringConstants.ARGUMENT_SIMULATE -> {
+                        simulatedGames = Integer.parseInt(value);
+                        if (simulatedGames <= 0) {
+                            System.err.println(StringConstants.ERROR_PREFIX + StringConstants.ERROR_ARGUMENT_FORMAT);
+                            return;
+                        }
+                    }
                     case null, default -> {
                         System.err.println(StringConstants.ERROR_PREFIX + StringConstants.ERROR_ARGUMENT_FORMAT);
                         return;
                     }
                 }
             }
+            if (simulatedGames > 0) {
+                SelfPlaySimulator simulator = new SelfPlaySimulator(ResourceLoader.loadUnits(unitsFilePath),
+                        ResourceLoader.loadDeck(deckFilePath), engineType, Runtime.getRuntime().availableProcessors());
+                System.out.print(simulator.run(randomSeed, simulatedGames).format());
+                return;
+            }
             Game gameInstance = new Game(randomSeed, deckFilePath, unitsFilePath);
-            CommandHandler handler = new CommandHandler(gameInstance);
-            handler.handleUserInput();
+            CommandHandler handler = new CommandHandler(gameInstance, engineType.createStrategy(), verbosity, terminalMode);
+            if (scriptFilePath.isEmpty()) {
+                handler.handleUserInput();
+            } else {
+                handler.runScript(Path.of(scriptFilePath));
+            }
         } catch (NumberFormatException exception) {
             System.err.println(StringConstants.ERROR_PREFIX + StringConstants.ERROR_ARGUMENT_FORMAT);
         } catch (IllegalArgumentException | IllegalStateException | IOException exception) {
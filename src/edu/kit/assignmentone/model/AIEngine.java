@@ -1,21 +1,23 @@
 package edu.kit.assignmentone.model;
 
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.BlockAction;
+import edu.kit.assignmentone.model.action.MoveAction;
+import edu.kit.assignmentone.model.action.PlaceAction;
+import edu.kit.assignmentone.model.action.YieldAction;
 import edu.kit.assignmentone.model.board.Board;
 import edu.kit.assignmentone.model.board.PlacedUnit;
 import edu.kit.assignmentone.model.board.Position;
 import edu.kit.assignmentone.model.player.Player;
 import edu.kit.assignmentone.model.player.PlayerType;
-import edu.kit.assignmentone.ui.BoardFormatter;
-import edu.kit.assignmentone.ui.commands.Command;
-import edu.kit.assignmentone.ui.commands.MoveCommand;
-import edu.kit.assignmentone.ui.commands.PlaceCommand;
-import edu.kit.assignmentone.ui.commands.YieldCommand;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
- * Handles the fully automated turn for the AI Enemy.
+ * Handles the fully automated turn for an AI-controlled player, usually the enemy.
  *
  * @author uqhkm
  * @version 1.0
@@ -29,7 +31,7 @@ public final class AIEngine {
     private AIEngine() { }
 
     /**
-     * Executes a complete turn for the AI.
+     * Executes a complete turn for the active player.
      * @param game The game instance
      */
     public static void playTurn(Game game) {
@@ -49,28 +51,27 @@ public final class AIEngine {
 
     private static void moveKing(Game game) {
         Board board = game.getBoard();
-        Position kingPosition = board.findUnit(StringConstants.KING_NAME, PlayerType.ENEMY);
+        Position kingPosition = board.findKing(game.getActivePlayer());
         if (kingPosition != null) {
             Position chosenPosition = board.findBestKingMove(kingPosition, game.getRandomGenerator());
-            game.setSelectedPosition(kingPosition);
-            executeSilently(new MoveCommand(game), new String[]{chosenPosition.toString()});
+            ActionExecutor.tryPerform(game, new MoveAction(kingPosition, chosenPosition));
         }
     }
 
     private static void placeUnit(Game game) {
         Board board = game.getBoard();
-        Player enemyPlayer = game.getEnemyPlayer();
+        Player activePlayer = game.getActivePlayerObject();
+        PlayerType activeType = activePlayer.getType();
 
-        if (!enemyPlayer.getHand().isEmpty() && enemyPlayer.getBoardCount() < Player.MAXIMUM_BOARD_CAPACITY) {
-            Position kingPosition = board.findUnit(StringConstants.KING_NAME, PlayerType.ENEMY);
-            Position playerKingPosition = board.findUnit(StringConstants.KING_NAME, PlayerType.PLAYER);
+        if (activePlayer.getHandSize() > 0 && activePlayer.getBoardCount() < Player.MAXIMUM_BOARD_CAPACITY) {
+            Position kingPosition = board.findKing(activeType);
+            Position playerKingPosition = board.findKing(activeType.next());
 
             if (kingPosition != null && playerKingPosition != null) {
                 Position chosenField = board.findBestPlacement(kingPosition, playerKingPosition, game.getRandomGenerator());
                 if (chosenField != null) {
-                    int chosenIndex = enemyPlayer.pickUnitToPlace(game.getRandomGenerator());
-                    game.setSelectedPosition(chosenField);
-                    executeSilently(new PlaceCommand(game), new String[]{String.valueOf(chosenIndex + 1)});
+                    int chosenIndex = activePlayer.pickUnitToPlace(game.getRandomGenerator());
+                    ActionExecutor.tryPerform(game, new PlaceAction(chosenField, List.of(chosenIndex)));
                 }
             }
         }
@@ -78,32 +79,18 @@ public final class AIEngine {
 
     private static void moveUnits(Game game) {
         Board board = game.getBoard();
-        Position playerKingPosition = board.findUnit(StringConstants.KING_NAME, PlayerType.PLAYER);
+        PlayerType activeType = game.getActivePlayer();
+        Position playerKingPosition = board.findKing(activeType.next());
         if (playerKingPosition != null) {
-            while (true) {
-                List<Position> unmovedUnits = board.getUnmovedEnemyUnits();
-                if (unmovedUnits.isEmpty()) {
-                    break;
-                }
-
-                Position bestPosition = null;
-                int bestTotalScore = Integer.MIN_VALUE;
-                List<Integer> bestScores = new ArrayList<>();
-                List<Integer> bestIndices = new ArrayList<>();
-
-                for (Position position : unmovedUnits) {
-                    UnitScoreResult result = evaluateUnit(board, position, playerKingPosition);
-                    if (result.totalScore() > bestTotalScore) {
-                        bestTotalScore = result.totalScore();
-                        bestPosition = position;
-                        bestScores = result.optionScores();
-                        bestIndices = result.validIndices();
-                    }
-                }
-                if (bestPosition != null) {
-                    game.setSelectedPosition(bestPosition);
-                    performAction(game, board, bestPosition, bestScores, bestIndices);
-                }
+            UnitScoreCache scoreCache = new UnitScoreCache(board, activeType, playerKingPosition);
+            Position bestPosition = scoreCache.pollBest();
+            while (bestPosition != null) {
+                UnitScoreResult result = scoreCache.getResult(bestPosition);
+                game.setSelectedPosition(bestPosition);
+                Position targetPosition = performAction(game, bestPosition, result.optionScores(), result.validIndices());
+                scoreCache.invalidateAround(bestPosition);
+                scoreCache.invalidateAround(targetPosition);
+                bestPosition = scoreCache.pollBest();
             }
         }
     }
@@ -118,7 +105,7 @@ public final class AIEngine {
             Position targetPosition = position.translate(DIRECTIONS_FOUR[index][0], DIRECTIONS_FOUR[index][1]);
             if (targetPosition != null) {
                 PlacedUnit targetUnit = board.getUnitAt(targetPosition).orElse(null);
-                if (targetUnit == null || !targetUnit.isKing() || targetUnit.getOwner() != PlayerType.ENEMY) {
+                if (targetUnit == null || !targetUnit.isKing() || targetUnit.getOwner() != unit.getOwner()) {
                     int scoreValue = board.evaluateTargetScore(position, targetPosition, playerKingPosition);
                     scores.add(scoreValue);
                     indices.add(index);
@@ -141,8 +128,7 @@ public final class AIEngine {
         return new UnitScoreResult(totalScore, scores, indices);
     }
 
-    private static void performAction(Game game, Board board, Position position, List<Integer> scores, List<Integer> indices) {
-        PlacedUnit unit = board.getUnitAt(position).orElseThrow();
+    private static Position performAction(Game game, Position position, List<Integer> scores, List<Integer> indices) {
         boolean hasPositiveScore = false;
         for (int scoreValue : scores) {
             if (scoreValue > 0) {
@@ -151,49 +137,122 @@ public final class AIEngine {
             }
         }
 
+        Position targetPosition = position;
         if (!hasPositiveScore) {
-            blockUnit(game, board, unit, position);
+            ActionExecutor.tryPerform(game, new BlockAction(position));
         } else {
             int chosenIndex = RandomUtils.weightedRandom(scores, game.getRandomGenerator());
             int action = indices.get(chosenIndex);
             if (action < DIRECTION_COUNT) {
-                Position targetPosition = position.translate(DIRECTIONS_FOUR[action][0], DIRECTIONS_FOUR[action][1]);
-                if (targetPosition != null) {
-                    executeSilently(new MoveCommand(game), new String[]{targetPosition.toString()});
+                Position movedPosition = position.translate(DIRECTIONS_FOUR[action][0], DIRECTIONS_FOUR[action][1]);
+                if (movedPosition != null) {
+                    ActionExecutor.tryPerform(game, new MoveAction(position, movedPosition));
+                    targetPosition = movedPosition;
                 }
             } else if (action == DIRECTION_COUNT) {
-                blockUnit(game, board, unit, position);
+                ActionExecutor.tryPerform(game, new BlockAction(position));
             } else {
-                executeSilently(new MoveCommand(game), new String[]{position.toString()});
+                ActionExecutor.tryPerform(game, new MoveAction(position, position));
             }
         }
-    }
-
-    private static void blockUnit(Game game, Board board, PlacedUnit unit, Position position) {
-        game.setSelectedPosition(position);
-        unit.block();
-        System.out.printf(StringConstants.FORMAT_BLOCKS, unit.getName(), position);
-        System.out.print(BoardFormatter.formatBoard(board, position));
-        System.out.println(unit.formatInformation(game));
+        return targetPosition;
     }
 
     private static void endTurn(Game game) {
-        Player enemyPlayer = game.getEnemyPlayer();
-        if (enemyPlayer.isHandFull()) {
-            int dropIndex = enemyPlayer.pickUnitToDiscard(game.getRandomGenerator());
-            executeSilently(new YieldCommand(game), new String[]{String.valueOf(dropIndex + 1)});
+        Player activePlayer = game.getActivePlayerObject();
+        if (activePlayer.isHandFull()) {
+            int dropIndex = activePlayer.pickUnitToDiscard(game.getRandomGenerator());
+            ActionExecutor.tryPerform(game, new YieldAction(dropIndex));
         } else {
-            executeSilently(new YieldCommand(game), new String[0]);
+            ActionExecutor.tryPerform(game, new YieldAction(Player.NO_DISCARD));
         }
     }
 
-    private static void executeSilently(Command command, String[] arguments) {
-        try {
-            command.execute(arguments);
-        } catch (IllegalStateException | IllegalArgumentException ignored) {
-            // Ignored silently for AI turn
+    private record UnitScoreResult(int totalScore, List<Integer> optionScores, List<Integer> validIndices) {}
+
+    private record ScoredCell(int cellIndex, int totalScore, int version) {}
+
+    /**
+     * Keeps the scores of the unmoved units during one turn. The score of a unit only depends on
+     * the fields within a distance of two, and an action only changes its source and target field,
+     * so only the units around those fields have to be scored again after an action.
+     * The queue is ordered like a scan in field order that keeps the first unit with the highest
+     * total, so the chosen units are exactly the ones a full rescan would choose.
+     */
+    private static final class UnitScoreCache {
+
+        private static final int INVALIDATION_RADIUS = 2;
+
+        private final Board board;
+        private final PlayerType owner;
+        private final Position playerKingPosition;
+        private final UnitScoreResult[] results = new UnitScoreResult[Position.CELL_COUNT];
+        private final int[] versions = new int[Position.CELL_COUNT];
+        private final PriorityQueue<ScoredCell> queue = new PriorityQueue<>(
+                Comparator.comparingInt(ScoredCell::totalScore).reversed().thenComparingInt(ScoredCell::cellIndex));
+
+        UnitScoreCache(Board board, PlayerType owner, Position playerKingPosition) {
+            this.board = board;
+            this.owner = owner;
+            this.playerKingPosition = playerKingPosition;
+            long remainingMask = unmovedMask();
+            while (remainingMask != 0) {
+                int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+                remainingMask &= remainingMask - 1;
+                score(cellIndex);
+            }
+        }
+
+        /**
+         * Removes the unmoved unit with the highest total from the queue.
+         * @return Its position, or null if all units have moved
+         */
+        Position pollBest() {
+            long unmovedMask = unmovedMask();
+            while (!this.queue.isEmpty()) {
+                ScoredCell entry = this.queue.poll();
+                int cellIndex = entry.cellIndex();
+                if (entry.version() == this.versions[cellIndex] && (unmovedMask & (1L << cellIndex)) != 0) {
+                    return Board.cellPosition(cellIndex);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Gets the current score of a unit.
+         * @param position The position of the unit
+         * @return The score
+         */
+        UnitScoreResult getResult(Position position) {
+            return this.results[Board.cellIndex(position)];
         }
-    }
 
-    private record UnitScoreResult(int totalScore, List<Integer> optionScores, List<Integer> validIndices) {}
+        /**
+         * Scores all unmoved units close to a changed field again.
+         * @param changedPosition The changed field
+         */
+        void invalidateAround(Position changedPosition) {
+            int changedIndex = changedPosition.index();
+            long remainingMask = unmovedMask();
+            while (remainingMask != 0) {
+                int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+                remainingMask &= remainingMask - 1;
+                if (Position.distance(cellIndex, changedIndex) <= INVALIDATION_RADIUS) {
+                    score(cellIndex);
+                }
+            }
+        }
+
+        private void score(int cellIndex) {
+            UnitScoreResult result = evaluateUnit(this.board, Board.cellPosition(cellIndex), this.playerKingPosition);
+            this.results[cellIndex] = result;
+            this.versions[cellIndex]++;
+            this.queue.add(new ScoredCell(cellIndex, result.totalScore(), this.versions[cellIndex]));
+        }
+
+        private long unmovedMask() {
+            return this.board.getOccupancy(this.owner) & ~this.board.getMovedMask() & ~this.board.getKingMask();
+        }
+    }
 }
\ No newline at end of file
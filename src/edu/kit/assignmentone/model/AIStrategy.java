@@ -0,0 +1,36 @@
+package edu.kit.assignmentone.model;
+
+import edu.kit.assignmentone.model.search.SearchStatistics;
+
+/**
+ * A strategy that plays complete turns for a computer-controlled player.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface AIStrategy {
+
+    /**
+     * Plays the complete turn of the active player, including yielding at the end.
+     *
+     * @param game The game instance
+     */
+    void playTurn(Game game);
+
+    /**
+     * Gets the accumulated search statistics of this strategy.
+     *
+     * @return The statistics, which are empty for strategies that do not search
+     */
+    default SearchStatistics getStatistics() {
+        return new SearchStatistics(0, 0);
+    }
+
+    /**
+     * Forgets everything kept from earlier games, including the statistics, so that the
+     * strategy plays the next game as if it was newly created.
+     */
+    default void reset() {
+    }
+}
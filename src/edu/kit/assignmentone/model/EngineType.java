@@ -0,0 +1,51 @@
+package edu.kit.assignmentone.model;
+
+import edu.kit.assignmentone.model.search.AlphaBetaEngine;
+import edu.kit.assignmentone.model.search.MonteCarloEngine;
+
+/**
+ * The selectable engines for computer-controlled turns.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public enum EngineType {
+    /** The greedy one-ply engine. */ GREEDY("greedy"),
+    /** The iterative-deepening alpha-beta search engine. */ ALPHA_BETA("alphabeta"),
+    /** The root-parallel Monte Carlo tree search engine. */ MONTE_CARLO("mcts");
+
+    private final String identifier;
+
+    EngineType(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Parses a string to the corresponding EngineType.
+     *
+     * @param typeString The string representation of the engine type
+     * @return The EngineType
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    public static EngineType fromString(String typeString) {
+        for (EngineType type : values()) {
+            if (type.identifier.equalsIgnoreCase(typeString)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(StringConstants.ERROR_ARGUMENT_FORMAT);
+    }
+
+    /**
+     * Creates a fresh strategy instance of this engine type.
+     *
+     * @return The strategy
+     */
+    public AIStrategy createStrategy() {
+        return switch (this) {
+            case GREEDY -> AIEngine::playTurn;
+            case ALPHA_BETA -> new AlphaBetaEngine();
+            case MONTE_CARLO -> new MonteCarloEngine();
+        };
+    }
+}
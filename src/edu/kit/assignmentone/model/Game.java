@@ -1,5 +1,16 @@
 package edu.kit.assignmentone.model;
 
+import edu.kit.assignmentone.model.action.Action;
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.BlockAction;
+import edu.kit.assignmentone.model.action.FlipAction;
+import edu.kit.assignmentone.model.action.MoveAction;
+import edu.kit.assignmentone.model.action.PlaceAction;
+import edu.kit.assignmentone.model.action.YieldAction;
+import edu.kit.assignmentone.model.event.DeckExhausted;
+import edu.kit.assignmentone.model.event.GameEventSink;
+import edu.kit.assignmentone.model.event.GameWon;
+import edu.kit.assignmentone.model.event.TurnStarted;
 import edu.kit.assignmentone.model.board.Board;
 import edu.kit.assignmentone.model.board.PlacedUnit;
 import edu.kit.assignmentone.model.board.Position;
@@ -8,7 +19,7 @@ import edu.kit.assignmentone.model.player.Deck;
 import edu.kit.assignmentone.model.player.Player;
 import edu.kit.assignmentone.model.player.PlayerType;
 import edu.kit.assignmentone.model.units.Unit;
-import edu.kit.assignmentone.model.units.UnitType;
+import edu.kit.assignmentone.model.units.UnitCatalog;
 
 import java.io.IOException;
 import java.util.List;
@@ -23,10 +34,9 @@ import java.util.Random;
 public class Game {
 
     private static final int REQUIRED_DECK_SIZE = 40;
-    private static final int BOARD_SIZE = 7;
 
     private final Random randomGenerator;
-    private final List<Unit> allUnits;
+    private final UnitCatalog catalog;
     private final List<Integer> deckBlueprint;
 
     private final Board board;
@@ -36,6 +46,8 @@ public class Game {
     private boolean running;
     private Position selectedPosition;
     private PlayerType activePlayer;
+    private PlayerType winner;
+    private GameEventSink eventSink = GameEventSink.SILENT;
 
     /**
      * Constructs a new game instance.
@@ -47,13 +59,38 @@ public class Game {
      * @throws IllegalStateException    If the deck configuration is invalid
      */
     public Game(long seed, String deckFilePath, String unitsFilePath) throws IOException {
+        this(seed, ResourceLoader.loadUnits(unitsFilePath), ResourceLoader.loadDeck(deckFilePath));
+    }
+
+    /**
+     * Constructs a new game instance from already loaded configurations, so that many games
+     * can be created without reading the files again. The same seed always yields the same game.
+     *
+     * @param seed          The random seed
+     * @param allUnits      The units as read from the units file, which are not modified
+     * @param deckBlueprint The card count per unit as read from the deck file
+     * @throws IllegalStateException If the deck configuration is invalid
+     */
+    public Game(long seed, List<Unit> allUnits, List<Integer> deckBlueprint) {
+        this(seed, new UnitCatalog(allUnits), deckBlueprint);
+    }
+
+    /**
+     * Constructs a new game instance with a catalog that may be shared with other games.
+     *
+     * @param seed          The random seed
+     * @param catalog       The catalog of the units from the units file
+     * @param deckBlueprint The card count per row of the units file as read from the deck file
+     * @throws IllegalStateException If the deck configuration is invalid
+     */
+    public Game(long seed, UnitCatalog catalog, List<Integer> deckBlueprint) {
         this.randomGenerator = new Random(seed);
         this.running = true;
 
-        this.allUnits = ResourceLoader.loadUnits(unitsFilePath);
-        this.deckBlueprint = ResourceLoader.loadDeck(deckFilePath);
+        this.catalog = catalog;
+        this.deckBlueprint = deckBlueprint;
 
-        if (this.allUnits.size() != this.deckBlueprint.size()) {
+        if (this.catalog.getRowCount() != this.deckBlueprint.size()) {
             throw new IllegalStateException(StringConstants.ERROR_DECK_ROWS);
         }
         int totalCards = 0;
@@ -64,7 +101,7 @@ public class Game {
             throw new IllegalStateException(StringConstants.ERROR_DECK_SIZE);
         }
 
-        this.board = new Board();
+        this.board = new Board(catalog.getUnionTable());
 
         Deck humanDeck = createDeckFromBlueprint();
         Deck enemyDeck = createDeckFromBlueprint();
@@ -72,19 +109,94 @@ public class Game {
         humanDeck.shuffle(this.randomGenerator);
         enemyDeck.shuffle(this.randomGenerator);
 
-        this.humanPlayer = new Player(PlayerType.PLAYER, humanDeck);
-        this.enemyPlayer = new Player(PlayerType.ENEMY, enemyDeck);
+        this.humanPlayer = new Player(PlayerType.PLAYER, humanDeck, catalog);
+        this.enemyPlayer = new Player(PlayerType.ENEMY, enemyDeck, catalog);
 
         initializePlayer(this.humanPlayer, true);
         initializePlayer(this.enemyPlayer, false);
 
-        Unit kingUnit = new Unit(StringConstants.EMPTY_STRING, StringConstants.KING_NAME, UnitType.FARMER, 0, 0);
-        this.board.placeUnit(new Position(3, 0), new PlacedUnit(kingUnit, PlayerType.PLAYER));
-        this.board.placeUnit(new Position(3, 6), new PlacedUnit(kingUnit, PlayerType.ENEMY));
+        this.board.placeUnit(Position.of(3, 0), new PlacedUnit(UnitCatalog.KING, UnitCatalog.KING_ID, PlayerType.PLAYER));
+        this.board.placeUnit(Position.of(3, 6), new PlacedUnit(UnitCatalog.KING, UnitCatalog.KING_ID, PlayerType.ENEMY));
 
         this.activePlayer = PlayerType.PLAYER;
     }
 
+    private Game(Game original, Random randomGenerator) {
+        this.randomGenerator = randomGenerator;
+        this.catalog = original.catalog;
+        this.deckBlueprint = original.deckBlueprint;
+        this.board = original.board.copy();
+        this.humanPlayer = original.humanPlayer.copy();
+        this.enemyPlayer = original.enemyPlayer.copy();
+        this.running = original.running;
+        this.selectedPosition = original.selectedPosition;
+        this.activePlayer = original.activePlayer;
+        this.winner = original.winner;
+    }
+
+    /**
+     * Creates an independent deep copy of this game for simulations. The copy does not publish any events.
+     *
+     * @param randomGenerator The random generator the copy should use
+     * @return The copied game
+     */
+    public Game copy(Random randomGenerator) {
+        return new Game(this, randomGenerator);
+    }
+
+    /**
+     * Applies an action of the active player without any console output.
+     *
+     * @param action The action
+     * @return The record to undo the action with
+     * @throws IllegalStateException    If the action is not allowed in the current state
+     * @throws IllegalArgumentException If the action refers to invalid hand indices
+     */
+    public UndoRecord apply(Action action) {
+        UndoRecord record = new UndoRecord();
+        apply(action, record);
+        return record;
+    }
+
+    /**
+     * Applies an action of the active player without any console output, reusing a record.
+     * If the action is rejected, the game is left unchanged.
+     *
+     * @param action The action
+     * @param record The record to fill, which must not hold an action that still has to be undone
+     * @throws IllegalStateException    If the action is not allowed in the current state
+     * @throws IllegalArgumentException If the action refers to invalid hand indices
+     */
+    public void apply(Action action, UndoRecord record) {
+        switch (action) {
+            case MoveAction moveAction -> record.capture(this, Board.cellIndex(moveAction.source()), Board.cellIndex(moveAction.target()));
+            case PlaceAction placeAction -> record.capture(this, Board.cellIndex(placeAction.target()), -1);
+            case BlockAction blockAction -> record.capture(this, Board.cellIndex(blockAction.position()), -1);
+            case FlipAction flipAction -> record.capture(this, Board.cellIndex(flipAction.position()), -1);
+            case YieldAction ignored -> record.capture(this, -1, -1);
+        }
+        try {
+            ActionExecutor.execute(this, action);
+        } catch (IllegalStateException | IllegalArgumentException exception) {
+            undo(record);
+            throw exception;
+        }
+    }
+
+    /**
+     * Reverts the most recently applied action that has not been undone yet.
+     * Actions have to be undone in the reverse order they were applied in.
+     *
+     * @param record The record returned for that action
+     */
+    public void undo(UndoRecord record) {
+        record.restore(this);
+        this.activePlayer = record.getActivePlayer();
+        this.winner = record.getWinner();
+        this.selectedPosition = record.getSelectedPosition();
+        this.running = record.wasRunning();
+    }
+
     private void initializePlayer(Player player, boolean drawExtraCard) {
         player.drawInitialHand();
         if (drawExtraCard) {
@@ -93,11 +205,15 @@ public class Game {
     }
 
     private Deck createDeckFromBlueprint() {
-        Deck deck = new Deck();
-        for (int listIndex = 0; listIndex < this.allUnits.size(); listIndex++) {
-            int count = this.deckBlueprint.get(listIndex);
+        int cardCount = 0;
+        for (int count : this.deckBlueprint) {
+            cardCount += count;
+        }
+        Deck deck = new Deck(cardCount);
+        for (int row = 0; row < this.catalog.getRowCount(); row++) {
+            int count = this.deckBlueprint.get(row);
             for (int unitIndex = 0; unitIndex < count; unitIndex++) {
-                deck.addUnit(this.allUnits.get(listIndex).copy());
+                deck.addCard(this.catalog.getRowId(row));
             }
         }
         return deck;
@@ -113,6 +229,30 @@ public class Game {
     /** Quits the game. */
     public void quit() { this.running = false; }
 
+    /**
+     * Ends the game with the given winner.
+     *
+     * @param winnerType The winning player
+     */
+    public void declareWinner(PlayerType winnerType) {
+        this.winner = winnerType;
+        quit();
+    }
+
+    /**
+     * Gets the winner of the game.
+     *
+     * @return The winner, or null if the game has not been won
+     */
+    public PlayerType getWinner() { return this.winner; }
+
+    /**
+     * Gets the type of the player whose turn it is.
+     *
+     * @return The active player type
+     */
+    public PlayerType getActivePlayer() { return this.activePlayer; }
+
     /**
      * Checks if it is the enemy's turn.
      *
@@ -141,6 +281,13 @@ public class Game {
      */
     public Player getEnemyPlayer() { return this.enemyPlayer; }
 
+    /**
+     * Gets the catalog the cards of both players refer to.
+     *
+     * @return The unit catalog
+     */
+    public UnitCatalog getUnitCatalog() { return this.catalog; }
+
     /**
      * Gets the game board.
      *
@@ -172,16 +319,65 @@ public class Game {
     }
 
     /**
-     * Switches the turn to the other player and executes turn preparation.
+     * Gets the player object of the given type.
+     *
+     * @param type The player type
+     * @return The player
      */
-    public void switchTurn() {
-        this.selectedPosition = null;
+    public Player getPlayer(PlayerType type) {
+        return type == PlayerType.PLAYER ? this.humanPlayer : this.enemyPlayer;
+    }
+
+    /**
+     * Gets the Zobrist key of the current state, combining board, both players and the active player.
+     *
+     * @return The key
+     */
+    public long getZobristKey() {
+        return this.board.getZobristKey() ^ this.humanPlayer.getZobristKey() ^ this.enemyPlayer.getZobristKey()
+                ^ Zobrist.activeKey(this.activePlayer);
+    }
 
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int column = 0; column < BOARD_SIZE; column++) {
-                this.board.getUnitAt(new Position(column, row)).ifPresent(unitObject -> unitObject.setMoved(false));
+    /**
+     * Gets the sink the events of performed actions are published to.
+     *
+     * @return The event sink
+     */
+    public GameEventSink getEventSink() { return this.eventSink; }
+
+    /**
+     * Sets the sink the events of performed actions are published to.
+     *
+     * @param eventSink The event sink, {@link GameEventSink#SILENT} to discard all events
+     */
+    public void setEventSink(GameEventSink eventSink) { this.eventSink = eventSink; }
+
+    /**
+     * Switches the turn to the other player, executes turn preparation and publishes the outcome.
+     */
+    public void switchTurn() {
+        PlayerType previousPlayer = this.activePlayer;
+        boolean hasDrawn = advanceTurn();
+        if (this.eventSink.isActive()) {
+            if (hasDrawn) {
+                this.eventSink.publish(new TurnStarted(this.activePlayer));
+            } else {
+                this.eventSink.publish(new DeckExhausted(this.activePlayer));
+                this.eventSink.publish(new GameWon(previousPlayer));
             }
         }
+    }
+
+    /**
+     * Switches the turn without any console output. If the next player cannot draw
+     * a card, the previous player is declared the winner.
+     *
+     * @return True if the next player could draw a card
+     */
+    public boolean advanceTurn() {
+        this.selectedPosition = null;
+
+        this.board.startTurn();
 
         PlayerType previousPlayer = this.activePlayer;
         this.activePlayer = previousPlayer.next();
@@ -189,14 +385,10 @@ public class Game {
         Player nextPlayer = getActivePlayerObject();
         nextPlayer.setPlacedThisTurn(false);
 
-        String activeName = this.activePlayer.getDisplayName();
-
-        if (!nextPlayer.drawCard()) {
-            System.out.printf(StringConstants.FORMAT_NO_CARDS, activeName);
-            System.out.printf(StringConstants.FORMAT_WINS, previousPlayer.getDisplayName());
-            quit();
-        } else {
-            System.out.printf(StringConstants.FORMAT_TURN, activeName);
+        boolean hasDrawn = nextPlayer.drawCard();
+        if (!hasDrawn) {
+            declareWinner(previousPlayer);
         }
+        return hasDrawn;
     }
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package edu.kit.assignmentone.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 /**
  * Utility class for weighted random selections.
+ * All selections draw a single {@code nextInt(total)} and pick the first index whose prefix sum
+ * exceeds it, so the same random state always leads to the same index.
  *
  * @author uqhkm
  * @version 1.0
@@ -21,28 +22,25 @@ public final class RandomUtils {
      * @return The chosen index
      */
     public static int weightedRandom(List<Integer> weights, Random randomGenerator) {
-        int resultIndex = weights.size() - 1;
-        int totalSum = 0;
-        int[] cumulativeSums = new int[weights.size()];
-
-        for (int index = 0; index < weights.size(); index++) {
-            int weight = Math.max(0, weights.get(index));
-            totalSum += weight;
-            cumulativeSums[index] = totalSum;
+        int[] weightArray = new int[weights.size()];
+        for (int index = 0; index < weightArray.length; index++) {
+            weightArray[index] = weights.get(index);
         }
+        return weightedRandom(weightArray, weightArray.length, randomGenerator);
+    }
 
-        if (totalSum > 0) {
-            int randomValue = randomGenerator.nextInt(totalSum) + 1;
-            for (int index = 0; index < cumulativeSums.length; index++) {
-                if (randomValue <= cumulativeSums[index]) {
-                    resultIndex = index;
-                    break;
-                }
-            }
-        } else {
-            resultIndex = 0;
-        }
-        return resultIndex;
+    /**
+     * Performs a weighted random selection over the first weights of an array.
+     * Negative weights count as zero. If all weights are zero, index 0 is returned without drawing.
+     * @param weights The weights, which are not modified
+     * @param count The number of weights to use
+     * @param randomGenerator The global random instance
+     * @return The chosen index
+     */
+    public static int weightedRandom(int[] weights, int count, Random randomGenerator) {
+        int[] prefixSums = new int[count];
+        int totalSum = fillPrefixSums(weights, count, prefixSums);
+        return totalSum > 0 ? firstPrefixAbove(prefixSums, count, randomGenerator.nextInt(totalSum)) : 0;
     }
 
     /**
@@ -52,17 +50,77 @@ public final class RandomUtils {
      * @return The chosen index
      */
     public static int reverseWeightedRandom(List<Integer> weights, Random randomGenerator) {
+        int[] weightArray = new int[weights.size()];
+        for (int index = 0; index < weightArray.length; index++) {
+            weightArray[index] = weights.get(index);
+        }
+        return reverseWeightedRandom(weightArray, weightArray.length, randomGenerator);
+    }
+
+    /**
+     * Performs a reverse weighted random selection over the first weights of an array,
+     * where each weight is replaced by its distance to the maximum weight.
+     * @param weights The original weights, which are not modified
+     * @param count The number of weights to use
+     * @param randomGenerator The global random instance
+     * @return The chosen index
+     */
+    public static int reverseWeightedRandom(int[] weights, int count, Random randomGenerator) {
         int maximumWeight = 0;
-        for (int weight : weights) {
-            if (weight > maximumWeight) {
-                maximumWeight = weight;
-            }
+        for (int index = 0; index < count; index++) {
+            maximumWeight = Math.max(maximumWeight, weights[index]);
         }
+        int[] reverseWeights = new int[count];
+        for (int index = 0; index < count; index++) {
+            reverseWeights[index] = maximumWeight - weights[index];
+        }
+        return weightedRandom(reverseWeights, count, randomGenerator);
+    }
+
+    /**
+     * Picks one of several equally weighted options.
+     * @param count The number of options
+     * @param randomGenerator The global random instance
+     * @return The chosen index, or 0 if there are no options
+     */
+    public static int uniformRandom(int count, Random randomGenerator) {
+        return count > 0 ? randomGenerator.nextInt(count) : 0;
+    }
+
+    /**
+     * Fills the prefix sums of the first weights, counting negative weights as zero.
+     * @param weights The weights
+     * @param count The number of weights to use
+     * @param prefixSums The array to fill
+     * @return The total sum
+     */
+    private static int fillPrefixSums(int[] weights, int count, int[] prefixSums) {
+        int totalSum = 0;
+        for (int index = 0; index < count; index++) {
+            totalSum += Math.max(0, weights[index]);
+            prefixSums[index] = totalSum;
+        }
+        return totalSum;
+    }
 
-        List<Integer> reverseWeights = new ArrayList<>();
-        for (int weight : weights) {
-            reverseWeights.add(Math.max(0, maximumWeight - weight));
+    /**
+     * Finds the first index whose prefix sum is greater than the value by binary search.
+     * @param prefixSums The non-decreasing prefix sums
+     * @param count The number of prefix sums to search
+     * @param value The value, between zero and the total sum exclusive
+     * @return The index
+     */
+    private static int firstPrefixAbove(int[] prefixSums, int count, int value) {
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prefixSums[middle] > value) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
         }
-        return weightedRandom(reverseWeights, randomGenerator);
+        return low;
     }
-}
\ No newline at end of file
+}
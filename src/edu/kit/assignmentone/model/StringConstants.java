@@ -26,16 +26,14 @@ public final class StringConstants {
     public static final String NO_UNIT_SELECTED = "<no unit>";
     public static final String ERROR_PREFIX = "Error, ";
 
-    public static final String PATTERN_WHITESPACE = " +";
-    public static final String PATTERN_SELECT = "select [a-zA-Z][0-9]";
-    public static final String PATTERN_MOVE = "move [a-zA-Z][0-9]";
-    public static final String PATTERN_PLACE = "place( [0-9]+)+";
-    public static final String PATTERN_YIELD = "yield( +[0-9]+)?";
+    public static final String FORMAT_NUMBER_INPUT = "For input string: \"%s\"";
 
     public static final String FORMAT_UNIT_INFORMATION = "%s (Team %s)%nATK: %d%nDEF: %d";
     public static final String FORMAT_STATISTICS = " (%d" + SLASH + "%d)";
     public static final String FORMAT_STATE = "%s%n%d" + SLASH + "%d LP%nDC: %d" + SLASH + "%d%nBC: %d" + SLASH + "%d";
     public static final String FORMAT_HAND_CARD = "[%d] %s (%d" + SLASH + "%d)%n";
+    public static final String FORMAT_HINT = "Best placement: place%s (%d" + SLASH + "%d)%n";
+    public static final String FORMAT_HINT_INDEX = " %d";
 
     public static final String FORMAT_ATTACKS = "%s%s attacks %s%s on %s!%n";
     public static final String FORMAT_DAMAGE = "%s takes %d damage!%n";
@@ -59,15 +57,33 @@ public final class StringConstants {
     public static final String COMMAND_BOARD = "board";
     public static final String COMMAND_BLOCK = "block";
     public static final String COMMAND_FLIP = "flip";
+    public static final String COMMAND_SELECT = "select";
+    public static final String COMMAND_MOVE = "move";
+    public static final String COMMAND_PLACE = "place";
+    public static final String COMMAND_YIELD = "yield";
+    public static final String COMMAND_HINT = "hint";
 
+    public static final String MESSAGE_NO_HINT = "No placement improves this field.";
     public static final String MESSAGE_HELP = "Use one of the following commands: select, board, move, flip, block, hand, place, show, yield, state, quit.";
 
     public static final String ARGUMENT_SEED = "seed";
     public static final String ARGUMENT_DECK = "deck";
     public static final String ARGUMENT_VERBOSITY = "verbosity";
     public static final String ARGUMENT_UNITS = "units";
+    public static final String ARGUMENT_ENGINE = "ai";
+    public static final String ARGUMENT_SIMULATE = "simulate";
+    public static final String ARGUMENT_TERMINAL = "terminal";
+    public static final String ARGUMENT_SCRIPT = "script";
     public static final String ARGUMENT_SEPARATOR = "=";
 
+    public static final String FORMAT_SIMULATION_SUMMARY = "Simulated %d games (seeds %d to %d) in %.2f s, %.1f games" + SLASH + "s%n";
+    public static final String FORMAT_SIMULATION_WINS = "%s wins: %d (%.1f%%)%n";
+    public static final String FORMAT_SIMULATION_UNDECIDED = "Undecided: %d%n";
+    public static final String FORMAT_SIMULATION_LENGTH = "Average length: %.1f turns%n";
+    public static final String FORMAT_SIMULATION_LIFE_POINTS = "%s LP: min %d, avg %.0f, max %d, per 1000 LP %s%n";
+    public static final String FORMAT_SCRIPT_SUMMARY = "Executed %d commands in %d ms, %d commands" + SLASH + "s";
+    public static final String FORMAT_SIMULATION_SEARCH = "Search: %d nodes, %.0f nodes" + SLASH + "s%n";
+
     public static final String ERROR_ARGUMENT_FORMAT = "Invalid command line arguments.";
     public static final String ERROR_MOVE_DISTANCE = "Invalid move distance. Only 1 step horizontally" + SLASH + "vertically or en place allowed.";
     public static final String ERROR_NO_SELECTION = "No field selected or selected field is empty.";
@@ -78,6 +94,7 @@ public final class StringConstants {
     public static final String ERROR_INVALID_INDEX = "One or more provided hand indices are invalid.";
     public static final String ERROR_DUPLICATE_INDEX = "An index cannot be provided multiple times.";
     public static final String ERROR_OCCUPIED_BY_ENEMY = "Cannot place on a field occupied by the enemy.";
+    public static final String ERROR_HINT_ON_KING = "Placing onto your own king would replace it.";
     public static final String ERROR_MUST_DISCARD = "You hold 5 units and must discard one using 'yield <idx>'.";
     public static final String ERROR_CANNOT_DISCARD = "You hold less than 5 units and cannot discard.";
     public static final String ERROR_NO_ARGUMENTS = "This command does not take any arguments.";
@@ -86,7 +103,12 @@ public final class StringConstants {
     public static final String ERROR_DECK_SIZE = "Deck must contain exactly 40 cards.";
     public static final String ERROR_NEGATIVE_DAMAGE = "Damage cannot be negative.";
     public static final String ERROR_MAXIMUM_BOARD_CAPACITY = "Maximum board capacity reached.";
+    public static final String ERROR_BOARD_INDEX = "Board index does not match the placed units.";
     public static final String ERROR_BOARD_COUNT_ZERO = "Board count is already zero.";
+    public static final String ERROR_TABLE_CAPACITY = "Transposition table capacity must be between 2^1 and 2^28 slots.";
+    public static final String ERROR_SCRIPT_SIZE = "Script files must be smaller than 2 GiB.";
+    public static final String ERROR_SIMULATION_INTERRUPTED = "The simulation was interrupted before all games finished.";
+    public static final String ERROR_EVENT_DEMAND = "Requested event count must be positive.";
     public static final String ERROR_POSITION_OCCUPIED = "Position is already occupied.";
     public static final String ERROR_NO_UNIT_SOURCE = "No unit at source.";
     public static final String ERROR_TARGET_OCCUPIED = "Target occupied.";
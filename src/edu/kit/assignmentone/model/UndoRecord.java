@@ -0,0 +1,157 @@
+package edu.kit.assignmentone.model;
+
+import edu.kit.assignmentone.model.board.Board;
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.Player;
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.units.Unit;
+
+/**
+ * Holds everything an action may change, captured right before the action is applied.
+ * An action touches at most two board cells, so only those cells are stored together with
+ * the moved flags and turn epoch of the board, both players' counters and hands and the turn state.
+ * Records are mutable and can be reused for further actions once they have been undone.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class UndoRecord {
+
+    private static final int MAXIMUM_CELLS = 2;
+    private static final int INITIAL_HAND_CAPACITY = 5;
+    private static final int NO_CELL = -1;
+
+    private final int[] cells;
+    private final PlacedUnit[] occupants;
+    private final Unit[] occupantUnits;
+    private final int[] occupantIds;
+    private final boolean[] flippedFlags;
+    private final boolean[] movedFlags;
+    private final boolean[] blockingFlags;
+    private long movedMask;
+    private int turnEpoch;
+
+    private final int[][] hands;
+    private final int[] handSizes;
+    private final int[] deckSizes;
+    private final int[] lifePoints;
+    private final int[] boardCounts;
+    private final boolean[] placedFlags;
+
+    private PlayerType activePlayer;
+    private PlayerType winner;
+    private Position selectedPosition;
+    private boolean running;
+
+    /**
+     * Creates a new, empty record.
+     */
+    public UndoRecord() {
+        int playerCount = PlayerType.values().length;
+        this.cells = new int[MAXIMUM_CELLS];
+        this.occupants = new PlacedUnit[MAXIMUM_CELLS];
+        this.occupantUnits = new Unit[MAXIMUM_CELLS];
+        this.occupantIds = new int[MAXIMUM_CELLS];
+        this.flippedFlags = new boolean[MAXIMUM_CELLS];
+        this.movedFlags = new boolean[MAXIMUM_CELLS];
+        this.blockingFlags = new boolean[MAXIMUM_CELLS];
+        this.hands = new int[playerCount][INITIAL_HAND_CAPACITY];
+        this.handSizes = new int[playerCount];
+        this.deckSizes = new int[playerCount];
+        this.lifePoints = new int[playerCount];
+        this.boardCounts = new int[playerCount];
+        this.placedFlags = new boolean[playerCount];
+    }
+
+    /**
+     * Captures the state the given cells and the rest of the game are in.
+     * @param game        The game
+     * @param firstCell   The first cell the action touches, or -1
+     * @param secondCell  The second cell the action touches, or -1
+     */
+    void capture(Game game, int firstCell, int secondCell) {
+        Board board = game.getBoard();
+        this.cells[0] = firstCell;
+        this.cells[1] = secondCell == firstCell ? NO_CELL : secondCell;
+        for (int slot = 0; slot < MAXIMUM_CELLS; slot++) {
+            PlacedUnit occupant = this.cells[slot] == NO_CELL ? null : board.getUnitAtCell(this.cells[slot]);
+            this.occupants[slot] = occupant;
+            if (occupant != null) {
+                this.occupantUnits[slot] = occupant.getUnit();
+                this.occupantIds[slot] = occupant.getCatalogId();
+                this.flippedFlags[slot] = occupant.isFlipped();
+                this.movedFlags[slot] = occupant.hasMoved();
+                this.blockingFlags[slot] = occupant.isBlocking();
+            }
+        }
+        this.movedMask = board.getMovedMask();
+        this.turnEpoch = board.getTurnEpoch();
+
+        for (PlayerType type : PlayerType.values()) {
+            int index = type.ordinal();
+            Player player = game.getPlayer(type);
+            int handSize = player.getHandSize();
+            if (this.hands[index].length < handSize) {
+                this.hands[index] = new int[handSize];
+            }
+            for (int handIndex = 0; handIndex < handSize; handIndex++) {
+                this.hands[index][handIndex] = player.getHandId(handIndex);
+            }
+            this.handSizes[index] = handSize;
+            this.deckSizes[index] = player.getDeckSize();
+            this.lifePoints[index] = player.getLifePoints();
+            this.boardCounts[index] = player.getBoardCount();
+            this.placedFlags[index] = player.hasPlacedThisTurn();
+        }
+
+        this.activePlayer = game.getActivePlayer();
+        this.winner = game.getWinner();
+        this.selectedPosition = game.getSelectedPosition();
+        this.running = game.isRunning();
+    }
+
+    /**
+     * Restores the board and both players to the captured state.
+     * @param game The game
+     */
+    void restore(Game game) {
+        Board board = game.getBoard();
+        board.restoreTurnEpoch(this.turnEpoch);
+        for (int slot = 0; slot < MAXIMUM_CELLS; slot++) {
+            if (this.cells[slot] != NO_CELL) {
+                board.removeUnit(Board.cellPosition(this.cells[slot]));
+            }
+        }
+        for (int slot = 0; slot < MAXIMUM_CELLS; slot++) {
+            PlacedUnit occupant = this.occupants[slot];
+            if (occupant != null) {
+                board.placeUnit(Board.cellPosition(this.cells[slot]), occupant);
+                occupant.restoreState(this.occupantUnits[slot], this.occupantIds[slot], this.flippedFlags[slot], this.movedFlags[slot], this.blockingFlags[slot]);
+                this.occupants[slot] = null;
+                this.occupantUnits[slot] = null;
+            }
+        }
+        long remainingMask = this.movedMask & ~board.getMovedMask();
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            board.getUnitAtCell(cellIndex).setMoved(true);
+        }
+
+        for (PlayerType type : PlayerType.values()) {
+            int index = type.ordinal();
+            game.getPlayer(type).restoreState(this.hands[index], this.handSizes[index], this.deckSizes[index],
+                    this.lifePoints[index], this.boardCounts[index], this.placedFlags[index]);
+        }
+    }
+
+    /** @return the captured active player */
+    PlayerType getActivePlayer() { return this.activePlayer; }
+    /** @return the captured winner, or null */
+    PlayerType getWinner() { return this.winner; }
+    /** @return the captured selected position, or null */
+    Position getSelectedPosition() { return this.selectedPosition; }
+    /** @return true if the game was running */
+    boolean wasRunning() { return this.running; }
+}
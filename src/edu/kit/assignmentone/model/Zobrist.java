@@ -0,0 +1,144 @@
+package edu.kit.assignmentone.model;
+
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnitCatalog;
+
+import java.util.Random;
+
+/**
+ * Provides the random keys for the incremental Zobrist hashing of game states.
+ * The identity key of a unit is derived from its name and stats, since units combined on the
+ * board have no catalog ID. Hand cards always come from the catalog, so {@link UnitCatalog}
+ * computes their keys once per ID.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final int FLAG_COUNT = 8;
+    private static final int FLAG_FLIPPED = 4;
+    private static final int FLAG_BLOCKING = 2;
+    private static final int FLAG_MOVED = 1;
+    private static final long MIX_MULTIPLIER_FIRST = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_MULTIPLIER_SECOND = 0x94D049BB133111EBL;
+    private static final int MIX_SHIFT_FIRST = 30;
+    private static final int MIX_SHIFT_SECOND = 27;
+    private static final int MIX_SHIFT_THIRD = 31;
+    private static final int STAT_SHIFT = 32;
+
+    private static final long[][] PIECE_KEYS;
+    private static final long[] CELL_SALTS;
+    private static final long[] HAND_SALTS;
+    private static final long[] LIFE_SALTS;
+    private static final long[] DECK_SALTS;
+    private static final long[] PLACED_KEYS;
+    private static final long[] ACTIVE_KEYS;
+
+    static {
+        Random keyGenerator = new Random(SEED);
+        int ownerCount = PlayerType.values().length;
+        PIECE_KEYS = new long[Position.CELL_COUNT * ownerCount][FLAG_COUNT];
+        CELL_SALTS = new long[Position.CELL_COUNT * ownerCount];
+        for (int index = 0; index < PIECE_KEYS.length; index++) {
+            for (int flags = 0; flags < FLAG_COUNT; flags++) {
+                PIECE_KEYS[index][flags] = keyGenerator.nextLong();
+            }
+            CELL_SALTS[index] = keyGenerator.nextLong();
+        }
+        HAND_SALTS = createKeys(keyGenerator, ownerCount);
+        LIFE_SALTS = createKeys(keyGenerator, ownerCount);
+        DECK_SALTS = createKeys(keyGenerator, ownerCount);
+        PLACED_KEYS = createKeys(keyGenerator, ownerCount);
+        ACTIVE_KEYS = createKeys(keyGenerator, ownerCount);
+    }
+
+    private Zobrist() { }
+
+    private static long[] createKeys(Random keyGenerator, int count) {
+        long[] keys = new long[count];
+        for (int index = 0; index < count; index++) {
+            keys[index] = keyGenerator.nextLong();
+        }
+        return keys;
+    }
+
+    /**
+     * Gets the key of a unit placed on a board cell.
+     * @param cellIndex The cell index (row * 7 + column)
+     * @param owner     The owner of the unit
+     * @param flipped   True if the unit is flipped
+     * @param blocking  True if the unit is blocking
+     * @param moved     True if the unit has moved this turn
+     * @param unit      The unit definition
+     * @return The key
+     */
+    public static long pieceKey(int cellIndex, PlayerType owner, boolean flipped, boolean blocking, boolean moved, Unit unit) {
+        int slot = owner.ordinal() * Position.CELL_COUNT + cellIndex;
+        int flags = (flipped ? FLAG_FLIPPED : 0) | (blocking ? FLAG_BLOCKING : 0) | (moved ? FLAG_MOVED : 0);
+        return PIECE_KEYS[slot][flags] ^ mix(unitKey(unit) ^ CELL_SALTS[slot]);
+    }
+
+    /**
+     * Gets the key of a unit in a hand. Hand keys are summed rather than combined with XOR,
+     * so that duplicate cards do not cancel each other out.
+     * @param owner The owner of the hand
+     * @param unit  The unit definition
+     * @return The key
+     */
+    public static long handKey(PlayerType owner, Unit unit) {
+        return mix(unitKey(unit) ^ HAND_SALTS[owner.ordinal()]);
+    }
+
+    /**
+     * Gets the key of a life point total.
+     * @param owner      The player
+     * @param lifePoints The life points
+     * @return The key
+     */
+    public static long lifeKey(PlayerType owner, int lifePoints) {
+        return mix(lifePoints ^ LIFE_SALTS[owner.ordinal()]);
+    }
+
+    /**
+     * Gets the key of a deck size.
+     * @param owner    The player
+     * @param deckSize The number of cards left in the deck
+     * @return The key
+     */
+    public static long deckKey(PlayerType owner, int deckSize) {
+        return mix(deckSize ^ DECK_SALTS[owner.ordinal()]);
+    }
+
+    /**
+     * Gets the key marking that a player has already placed units this turn.
+     * @param owner The player
+     * @return The key
+     */
+    public static long placedKey(PlayerType owner) {
+        return PLACED_KEYS[owner.ordinal()];
+    }
+
+    /**
+     * Gets the key of the player whose turn it is.
+     * @param activePlayer The active player
+     * @return The key
+     */
+    public static long activeKey(PlayerType activePlayer) {
+        return ACTIVE_KEYS[activePlayer.ordinal()];
+    }
+
+    private static long unitKey(Unit unit) {
+        long nameKey = mix(unit.qualifier().hashCode() ^ ((long) unit.roleString().hashCode() << STAT_SHIFT));
+        return nameKey ^ mix(unit.attack() ^ ((long) unit.defense() << STAT_SHIFT));
+    }
+
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> MIX_SHIFT_FIRST)) * MIX_MULTIPLIER_FIRST;
+        mixed = (mixed ^ (mixed >>> MIX_SHIFT_SECOND)) * MIX_MULTIPLIER_SECOND;
+        return mixed ^ (mixed >>> MIX_SHIFT_THIRD);
+    }
+}
@@ -0,0 +1,10 @@
+package edu.kit.assignmentone.model.action;
+
+/**
+ * A single typed action the active player can perform on the game model.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public sealed interface Action permits MoveAction, PlaceAction, BlockAction, FlipAction, YieldAction {
+}
@@ -0,0 +1,386 @@
+package edu.kit.assignmentone.model.action;
+
+import edu.kit.assignmentone.model.DuelResult;
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.event.DamageDealt;
+import edu.kit.assignmentone.model.event.DuelStarted;
+import edu.kit.assignmentone.model.event.GameEventSink;
+import edu.kit.assignmentone.model.event.GameWon;
+import edu.kit.assignmentone.model.event.LifePointsDepleted;
+import edu.kit.assignmentone.model.event.SelectionChanged;
+import edu.kit.assignmentone.model.event.UnionFailed;
+import edu.kit.assignmentone.model.event.UnionSucceeded;
+import edu.kit.assignmentone.model.event.UnitBlocked;
+import edu.kit.assignmentone.model.event.UnitDiscarded;
+import edu.kit.assignmentone.model.event.UnitEliminated;
+import edu.kit.assignmentone.model.event.UnitFlipped;
+import edu.kit.assignmentone.model.event.UnitMoved;
+import edu.kit.assignmentone.model.event.UnitPlaced;
+import edu.kit.assignmentone.model.event.UnitUnblocked;
+import edu.kit.assignmentone.model.event.UnitsJoining;
+import edu.kit.assignmentone.model.board.Board;
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.Player;
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnitCatalog;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Applies typed actions to the game model. This is the only implementation of the game rules:
+ * the console commands, the computer players and the search engines all go through it.
+ * Performed actions are narrated as events to the sink of the game, executed actions are not.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class ActionExecutor {
+
+    private ActionExecutor() { }
+
+    /**
+     * Performs an action for the active player and publishes its events to the sink of the game.
+     *
+     * @param game   The game to modify
+     * @param action The action to perform
+     * @throws IllegalStateException    If the action is not allowed in the current state
+     * @throws IllegalArgumentException If the action refers to invalid hand indices
+     */
+    public static void perform(Game game, Action action) {
+        run(game, action, game.getEventSink());
+    }
+
+    /**
+     * Performs an action for the active player and publishes its events, if it is legal.
+     *
+     * @param game   The game to modify
+     * @param action The action to perform
+     * @return True if the action was legal and has been performed
+     */
+    public static boolean tryPerform(Game game, Action action) {
+        boolean legal = isLegal(game, action);
+        if (legal) {
+            run(game, action, game.getEventSink());
+        }
+        return legal;
+    }
+
+    /**
+     * Executes an action for the active player without creating any events.
+     *
+     * @param game   The game to modify
+     * @param action The action to execute
+     * @throws IllegalStateException    If the action is not allowed in the current state
+     * @throws IllegalArgumentException If the action refers to invalid hand indices
+     */
+    public static void execute(Game game, Action action) {
+        run(game, action, GameEventSink.SILENT);
+    }
+
+    /**
+     * Checks whether an action would be accepted in the current state, without throwing.
+     *
+     * @param game   The game state
+     * @param action The action
+     * @return True if performing the action would not be rejected
+     */
+    public static boolean isLegal(Game game, Action action) {
+        Board board = game.getBoard();
+        Player player = game.getActivePlayerObject();
+        return switch (action) {
+            case MoveAction moveAction -> {
+                PlacedUnit movingUnit = board.getUnitAt(moveAction.source()).orElse(null);
+                PlacedUnit targetUnit = board.getUnitAt(moveAction.target()).orElse(null);
+                yield movingUnit != null && !movingUnit.hasMoved()
+                        && moveAction.source().distanceTo(moveAction.target()) <= 1
+                        && (targetUnit == null || targetUnit == movingUnit
+                            || !(targetUnit.isKing() && targetUnit.getOwner() == movingUnit.getOwner())
+                            && !(movingUnit.isKing() && targetUnit.getOwner() != movingUnit.getOwner()));
+            }
+            case PlaceAction placeAction -> {
+                PlacedUnit targetUnit = board.getUnitAt(placeAction.target()).orElse(null);
+                List<Integer> handIndices = placeAction.handIndices();
+                boolean indicesValid = true;
+                for (int position = 0; position < handIndices.size(); position++) {
+                    int index = handIndices.get(position);
+                    indicesValid &= index >= 0 && index < player.getHandSize() && handIndices.indexOf(index) == position;
+                }
+                yield indicesValid && !player.hasPlacedThisTurn() && (targetUnit == null
+                        ? handIndices.isEmpty() || player.getBoardCount() < Player.MAXIMUM_BOARD_CAPACITY
+                        : targetUnit.getOwner() == player.getType());
+            }
+            case BlockAction blockAction -> board.getUnitAt(blockAction.position()).filter(unit -> !unit.hasMoved()).isPresent();
+            case FlipAction flipAction -> board.getUnitAt(flipAction.position()).filter(unit -> !unit.hasMoved()).isPresent();
+            case YieldAction yieldAction -> player.isHandFull()
+                    ? yieldAction.discardIndex() >= 0 && yieldAction.discardIndex() < player.getHandSize()
+                    : yieldAction.discardIndex() == Player.NO_DISCARD;
+        };
+    }
+
+    private static void run(Game game, Action action, GameEventSink events) {
+        switch (action) {
+            case MoveAction moveAction -> executeMove(game, moveAction.source(), moveAction.target(), events);
+            case PlaceAction placeAction -> executePlace(game, placeAction.target(), placeAction.handIndices(), events);
+            case BlockAction blockAction -> executeBlock(game, blockAction.position(), events);
+            case FlipAction flipAction -> executeFlip(game, flipAction.position(), events);
+            case YieldAction yieldAction -> executeYield(game, yieldAction.discardIndex(), events);
+        }
+    }
+
+    private static void executeMove(Game game, Position sourcePosition, Position targetPosition, GameEventSink events) {
+        Board board = game.getBoard();
+        if (board.isEmpty(sourcePosition)) {
+            throw new IllegalStateException(StringConstants.ERROR_NO_SELECTION);
+        }
+        game.setSelectedPosition(sourcePosition);
+
+        PlacedUnit movingUnit = board.getUnitAt(sourcePosition).orElseThrow();
+        PlacedUnit targetUnit = board.getUnitAt(targetPosition).orElse(null);
+        movingUnit.requireValidMove(sourcePosition.distanceTo(targetPosition), targetUnit);
+        if (movingUnit.unblockIfBlocking() && events.isActive()) {
+            events.publish(new UnitUnblocked(movingUnit.getName()));
+        }
+
+        if (sourcePosition.distanceTo(targetPosition) == 0) {
+            movingUnit.setMoved(true);
+            if (events.isActive()) {
+                events.publish(new UnitMoved(movingUnit.getName(), targetPosition));
+            }
+        } else {
+            if (targetUnit == null) {
+                board.moveUnit(sourcePosition, targetPosition);
+                game.setSelectedPosition(targetPosition);
+                if (events.isActive()) {
+                    events.publish(new UnitMoved(movingUnit.getName(), targetPosition));
+                }
+            } else if (movingUnit.getOwner() == targetUnit.getOwner()) {
+                executeUnion(game, movingUnit, targetUnit, sourcePosition, targetPosition, events);
+            } else {
+                executeDuel(game, movingUnit, targetUnit, sourcePosition, targetPosition, events);
+            }
+            movingUnit.setMoved(true);
+        }
+
+        if (events.isActive() && game.isRunning()) {
+            events.publish(new SelectionChanged(game.getSelectedPosition()));
+        }
+    }
+
+    private static void executeUnion(Game game, PlacedUnit movingUnit, PlacedUnit targetUnit, Position sourcePosition,
+                                     Position targetPosition, GameEventSink events) {
+        Board board = game.getBoard();
+        if (events.isActive()) {
+            events.publish(new UnitMoved(movingUnit.getName(), targetPosition));
+            events.publish(new UnitsJoining(movingUnit.getName(), targetUnit.getName(), targetPosition));
+        }
+        Optional<Unit> combinedOptional = movingUnit.getUnit().createUnion(targetUnit.getUnit(),
+                movingUnit.lookUpUnion(targetUnit, board.getUnionTable()));
+        if (combinedOptional.isPresent()) {
+            if (events.isActive()) {
+                events.publish(new UnionSucceeded());
+            }
+            board.removeUnit(sourcePosition);
+            targetUnit.setUnit(combinedOptional.get());
+            targetUnit.setFlipped(movingUnit.isFlipped() && targetUnit.isFlipped());
+        } else {
+            if (events.isActive()) {
+                events.publish(new UnionFailed(targetUnit.getName()));
+            }
+            board.removeUnit(targetPosition);
+            board.moveUnit(sourcePosition, targetPosition);
+            game.getPlayer(targetUnit.getOwner()).decrementBoardCount();
+        }
+        game.setSelectedPosition(targetPosition);
+    }
+
+    private static void executeDuel(Game game, PlacedUnit attacker, PlacedUnit defender, Position sourcePosition,
+                                    Position targetPosition, GameEventSink events) {
+        Board board = game.getBoard();
+        if (events.isActive()) {
+            events.publish(createDuelStarted(game, attacker, defender, targetPosition));
+        }
+        if (attacker.flipIfCovered() && events.isActive()) {
+            events.publish(new UnitFlipped(attacker.getName(), attacker.getAttack(), attacker.getDefense(), sourcePosition));
+        }
+        if (defender.flipIfCovered() && events.isActive()) {
+            events.publish(new UnitFlipped(defender.getName(), defender.getAttack(), defender.getDefense(), targetPosition));
+        }
+        DuelResult duelResult = attacker.fightAgainst(defender);
+
+        if (duelResult.defenderEliminated()) {
+            if (events.isActive()) {
+                events.publish(new UnitEliminated(defender.getName()));
+            }
+            board.removeUnit(targetPosition);
+            game.getPlayer(defender.getOwner()).decrementBoardCount();
+        }
+        if (duelResult.attackerEliminated()) {
+            if (events.isActive()) {
+                events.publish(new UnitEliminated(attacker.getName()));
+            }
+            board.removeUnit(sourcePosition);
+            game.getPlayer(attacker.getOwner()).decrementBoardCount();
+            game.setSelectedPosition(null);
+        }
+        if (duelResult.damage() > 0) {
+            applyDamage(game, duelResult.victim(), duelResult.damage(), events);
+        }
+        if (game.isRunning() && !duelResult.attackerEliminated()) {
+            if (duelResult.movesToDefenderPosition()) {
+                if (events.isActive()) {
+                    events.publish(new UnitMoved(attacker.getName(), targetPosition));
+                }
+                board.moveUnit(sourcePosition, targetPosition);
+                game.setSelectedPosition(targetPosition);
+            } else {
+                game.setSelectedPosition(sourcePosition);
+            }
+        }
+    }
+
+    private static DuelStarted createDuelStarted(Game game, PlacedUnit attacker, PlacedUnit defender, Position targetPosition) {
+        boolean defenderHidden = !defender.isFlipped() && !defender.isKing() && defender.getOwner() != game.getActivePlayer();
+        return new DuelStarted(attacker.getName(), attacker.getAttack(), attacker.getDefense(), defender.getName(),
+                defender.getAttack(), defender.getDefense(), defenderHidden, defender.isKing(), targetPosition);
+    }
+
+    private static void applyDamage(Game game, PlayerType victimType, int damage, GameEventSink events) {
+        if (events.isActive()) {
+            events.publish(new DamageDealt(victimType, damage));
+        }
+        if (game.getPlayer(victimType).takeDamageAndCheckDefeat(damage)) {
+            PlayerType winnerType = victimType.next();
+            if (events.isActive()) {
+                events.publish(new LifePointsDepleted(victimType));
+                events.publish(new GameWon(winnerType));
+            }
+            game.declareWinner(winnerType);
+        }
+    }
+
+    private static void executePlace(Game game, Position targetPosition, List<Integer> handIndices, GameEventSink events) {
+        Board board = game.getBoard();
+        Player activePlayer = game.getActivePlayerObject();
+        PlayerType activePlayerType = activePlayer.getType();
+        game.setSelectedPosition(targetPosition);
+
+        for (int position = 0; position < handIndices.size(); position++) {
+            int index = handIndices.get(position);
+            if (index < 0 || index >= activePlayer.getHandSize()) {
+                throw new IllegalArgumentException(StringConstants.ERROR_INVALID_INDEX);
+            }
+            if (handIndices.indexOf(index) != position) {
+                throw new IllegalArgumentException(StringConstants.ERROR_DUPLICATE_INDEX);
+            }
+        }
+
+        boolean isFieldEmpty = board.isEmpty(targetPosition);
+        if (!isFieldEmpty && board.getUnitAt(targetPosition).orElseThrow().getOwner() != activePlayerType) {
+            throw new IllegalStateException(StringConstants.ERROR_OCCUPIED_BY_ENEMY);
+        }
+
+        int[] idsToPlace = activePlayer.preparePlacement(handIndices, isFieldEmpty ? null : activePlayerType);
+        UnitCatalog catalog = game.getUnitCatalog();
+        int firstUnion = 0;
+        if (isFieldEmpty && idsToPlace.length > 0) {
+            activePlayer.incrementBoardCount();
+            board.placeUnit(targetPosition, new PlacedUnit(catalog.getUnit(idsToPlace[0]), idsToPlace[0], activePlayerType));
+            if (events.isActive()) {
+                events.publish(new UnitPlaced(activePlayerType, catalog.getFullName(idsToPlace[0]), targetPosition));
+            }
+            firstUnion = 1;
+        }
+        if (firstUnion < idsToPlace.length) {
+            executePlacementUnions(game, targetPosition, idsToPlace, firstUnion, events);
+        }
+
+        if (events.isActive()) {
+            events.publish(new SelectionChanged(targetPosition));
+        }
+    }
+
+    private static void executePlacementUnions(Game game, Position targetPosition, int[] idsToPlace, int firstUnion,
+                                               GameEventSink events) {
+        Board board = game.getBoard();
+        Player activePlayer = game.getActivePlayerObject();
+        UnitCatalog catalog = game.getUnitCatalog();
+        PlacedUnit targetUnit = board.getUnitAt(targetPosition).orElseThrow();
+        boolean suppressMessage = firstUnion > 0;
+
+        for (int position = firstUnion; position < idsToPlace.length; position++) {
+            int unitId = idsToPlace[position];
+            Unit unitObject = catalog.getUnit(unitId);
+            if (events.isActive()) {
+                if (!suppressMessage) {
+                    events.publish(new UnitPlaced(activePlayer.getType(), catalog.getFullName(unitId), targetPosition));
+                }
+                events.publish(new UnitsJoining(catalog.getFullName(unitId), targetUnit.getName(), targetPosition));
+            }
+            suppressMessage = false;
+
+            long outcome = board.getUnionTable().lookUp(unitObject, unitId, targetUnit.getUnit(), targetUnit.getCatalogId());
+            Optional<Unit> combinedOptional = unitObject.createUnion(targetUnit.getUnit(), outcome);
+            if (combinedOptional.isEmpty()) {
+                if (events.isActive()) {
+                    events.publish(new UnionFailed(targetUnit.getName()));
+                }
+                board.removeUnit(targetPosition);
+                activePlayer.decrementBoardCount();
+                break;
+            }
+            if (events.isActive()) {
+                events.publish(new UnionSucceeded());
+            }
+            targetUnit.setUnit(combinedOptional.get());
+        }
+    }
+
+    private static void executeBlock(Game game, Position position, GameEventSink events) {
+        Board board = game.getBoard();
+        if (board.isEmpty(position)) {
+            throw new IllegalStateException(StringConstants.ERROR_NO_SELECTION);
+        }
+        game.setSelectedPosition(position);
+        PlacedUnit unit = board.getUnitAt(position).orElseThrow();
+        unit.requireValidMove(0, unit);
+        unit.block();
+        if (events.isActive()) {
+            events.publish(new UnitBlocked(unit.getName(), position));
+            events.publish(new SelectionChanged(position));
+        }
+    }
+
+    private static void executeFlip(Game game, Position position, GameEventSink events) {
+        Board board = game.getBoard();
+        if (board.isEmpty(position)) {
+            throw new IllegalStateException(StringConstants.ERROR_NO_SELECTION);
+        }
+        game.setSelectedPosition(position);
+        PlacedUnit unit = board.getUnitAt(position).orElseThrow();
+        unit.requireValidMove(0, unit);
+        if (unit.flipIfCovered()) {
+            unit.setMoved(true);
+            if (events.isActive()) {
+                events.publish(new UnitFlipped(unit.getName(), unit.getAttack(), unit.getDefense(), position));
+                events.publish(new SelectionChanged(position));
+            }
+        }
+    }
+
+    private static void executeYield(Game game, int discardIndex, GameEventSink events) {
+        Player activePlayer = game.getActivePlayerObject();
+        Unit discardedUnit = activePlayer.processYield(discardIndex);
+        if (events.isActive()) {
+            if (discardedUnit != null) {
+                events.publish(new UnitDiscarded(activePlayer.getType(), discardedUnit));
+            }
+            game.switchTurn();
+        } else {
+            game.advanceTurn();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.action;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * Lets the unit on the given field block for the rest of the turn.
+ *
+ * @param position The field of the blocking unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record BlockAction(Position position) implements Action {
+}
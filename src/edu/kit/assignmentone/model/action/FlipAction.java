@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.action;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * Flips the covered unit on the given field, which counts as its move for this turn.
+ *
+ * @param position The field of the unit to flip
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record FlipAction(Position position) implements Action {
+}
@@ -0,0 +1,15 @@
+package edu.kit.assignmentone.model.action;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * Moves the unit on the source field to the target field, which may start a union or a duel.
+ *
+ * @param source The field of the moving unit
+ * @param target The target field, equal to the source for a move en place
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record MoveAction(Position source, Position target) implements Action {
+}
@@ -0,0 +1,27 @@
+package edu.kit.assignmentone.model.action;
+
+import edu.kit.assignmentone.model.board.Position;
+
+import java.util.List;
+
+/**
+ * Places one or more hand units on the target field, joining them in the given order.
+ *
+ * @param target      The target field
+ * @param handIndices The zero-based hand indices in placement order
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record PlaceAction(Position target, List<Integer> handIndices) implements Action {
+
+    /**
+     * Creates a new place action with an immutable copy of the indices.
+     *
+     * @param target      The target field
+     * @param handIndices The zero-based hand indices in placement order
+     */
+    public PlaceAction {
+        handIndices = List.copyOf(handIndices);
+    }
+}
@@ -0,0 +1,12 @@
+package edu.kit.assignmentone.model.action;
+
+/**
+ * Ends the turn of the active player, optionally discarding a hand unit first.
+ *
+ * @param discardIndex The zero-based hand index to discard, or {@code Player.NO_DISCARD}
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record YieldAction(int discardIndex) implements Action {
+}
@@ -1,11 +1,13 @@
 package edu.kit.assignmentone.model.board;
 
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.Zobrist;
 import edu.kit.assignmentone.model.player.PlayerType;
-import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnionTable;
 import edu.kit.assignmentone.model.RandomUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -19,14 +21,228 @@ import java.util.Random;
 public class Board {
 
     private static final int PENALTY_FLIPPED = 500;
-    private static final int[][] DIRECTIONS_FOUR = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
-    private static final int[][] DIRECTIONS_EIGHT = {{0, 1}, {1, 1}, {1, 0}, {1, -1}, {0, -1}, {-1, -1}, {-1, 0}, {-1, 1}};
-    private static final int BOARD_SIZE = 7;
+    private static final int BOARD_SIZE = Position.BOARD_SIZE;
+    private static final int CELL_COUNT = Position.CELL_COUNT;
+    private static final long[] NEIGHBOURS_FOUR = createNeighbourMasks(false);
+    private static final long[] NEIGHBOURS_EIGHT = createNeighbourMasks(true);
+    /** The epoch of units that have not moved in any turn. */
+    static final int NO_EPOCH = 0;
+    private static final int FIRST_EPOCH = 1;
     private final PlacedUnit[][] grid;
+    private final UnionTable unionTable;
+    private final long[] ownerMasks;
+    private long kingMask;
+    private long blockingMask;
+    private long movedMask;
+    private int turnEpoch = FIRST_EPOCH;
+    private final long[] cellKeys;
+    private long zobristKey;
+    private int modificationCount;
 
-    /** Creates a new, empty game board. */
-    public Board() {
+    /**
+     * Creates a new, empty game board.
+     * @param unionTable The union table of the catalog the placed units come from
+     */
+    public Board(UnionTable unionTable) {
         this.grid = new PlacedUnit[BOARD_SIZE][BOARD_SIZE];
+        this.unionTable = unionTable;
+        this.ownerMasks = new long[PlayerType.values().length];
+        this.cellKeys = new long[CELL_COUNT];
+    }
+
+    /**
+     * Creates a deep copy of this board, including copies of all placed units.
+     * @return The copied board
+     */
+    public Board copy() {
+        Board boardCopy = new Board(this.unionTable);
+        boardCopy.turnEpoch = this.turnEpoch;
+        long remainingMask = this.ownerMasks[PlayerType.PLAYER.ordinal()] | this.ownerMasks[PlayerType.ENEMY.ordinal()];
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            boardCopy.placeUnit(cellPosition(cellIndex), getUnitAtCell(cellIndex).copy());
+        }
+        return boardCopy;
+    }
+
+    private static long[] createNeighbourMasks(boolean useEightDirections) {
+        long[] masks = new long[CELL_COUNT];
+        for (int cellIndex = 0; cellIndex < CELL_COUNT; cellIndex++) {
+            for (int neighbourIndex : Position.neighbourIndices(cellIndex, useEightDirections)) {
+                masks[cellIndex] |= 1L << neighbourIndex;
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Gets the bit index of a position in the occupancy masks.
+     * @param position The position
+     * @return The cell index (row * 7 + column)
+     */
+    public static int cellIndex(Position position) {
+        return position.index();
+    }
+
+    /**
+     * Gets the position of a cell index.
+     * @param cellIndex The cell index (row * 7 + column)
+     * @return The position
+     */
+    public static Position cellPosition(int cellIndex) {
+        return Position.ofIndex(cellIndex);
+    }
+
+    /**
+     * Gets the precomputed mask of the horizontal and vertical (or all eight) neighbours of a cell.
+     * @param cellIndex The cell index
+     * @param useEightDirections True to include the diagonal neighbours
+     * @return The neighbour mask
+     */
+    public static long neighbourMask(int cellIndex, boolean useEightDirections) {
+        return useEightDirections ? NEIGHBOURS_EIGHT[cellIndex] : NEIGHBOURS_FOUR[cellIndex];
+    }
+
+    /**
+     * Gets the unit on a cell.
+     * @param cellIndex The cell index
+     * @return The unit, or null if the cell is empty
+     */
+    public PlacedUnit getUnitAtCell(int cellIndex) {
+        return this.grid[cellIndex % BOARD_SIZE][cellIndex / BOARD_SIZE];
+    }
+
+    /**
+     * Gets the occupancy mask of one player.
+     * @param owner The owner
+     * @return The mask of all cells holding units of that owner
+     */
+    public long getOccupancy(PlayerType owner) {
+        return this.ownerMasks[owner.ordinal()];
+    }
+
+    /** @return the mask of all cells holding a king */
+    public long getKingMask() { return this.kingMask; }
+
+    /** @return the mask of all cells holding a unit that has moved this turn */
+    public long getMovedMask() { return this.movedMask; }
+
+    /** @return the Zobrist key of all placed units and their flags */
+    public long getZobristKey() { return this.zobristKey; }
+
+    /** @return a counter that changes whenever a unit is placed, removed or changes its flags */
+    public int getModificationCount() { return this.modificationCount; }
+
+    /** @return the union table of the catalog the placed units come from */
+    public UnionTable getUnionTable() { return this.unionTable; }
+
+    /**
+     * Gets the current turn epoch. A unit has moved this turn if it was marked in the current epoch.
+     * @return The turn epoch
+     */
+    public int getTurnEpoch() { return this.turnEpoch; }
+
+    /**
+     * Starts a new turn, which resets the moved state of all units by advancing the turn epoch.
+     * Only the cells of units that have moved need to be updated.
+     */
+    public void startTurn() {
+        this.turnEpoch++;
+        long remainingMask = this.movedMask;
+        this.movedMask = 0;
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            refreshKey(cellIndex, getUnitAtCell(cellIndex));
+        }
+        assert isIndexConsistent() : StringConstants.ERROR_BOARD_INDEX;
+    }
+
+    /**
+     * Returns to an earlier turn epoch, e.g. to undo a turn switch. Units marked in that epoch count as moved again.
+     * @param epoch The epoch to return to
+     */
+    public void restoreTurnEpoch(int epoch) {
+        if (epoch != this.turnEpoch) {
+            this.turnEpoch = epoch;
+            this.movedMask = 0;
+            long remainingMask = this.ownerMasks[PlayerType.PLAYER.ordinal()] | this.ownerMasks[PlayerType.ENEMY.ordinal()];
+            while (remainingMask != 0) {
+                int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+                remainingMask &= remainingMask - 1;
+                PlacedUnit unit = getUnitAtCell(cellIndex);
+                if (unit.hasMoved()) {
+                    this.movedMask |= 1L << cellIndex;
+                }
+                refreshKey(cellIndex, unit);
+            }
+            assert isIndexConsistent() : StringConstants.ERROR_BOARD_INDEX;
+        }
+    }
+
+    /**
+     * Re-reads the flags of the unit on the given cell into the occupancy masks and the Zobrist key.
+     * Called by placed units whenever their unit, flipped, blocking or moved state changes.
+     * @param cellIndex The cell index (row * 7 + column)
+     */
+    void refreshMasks(int cellIndex) {
+        long cellBit = 1L << cellIndex;
+        for (int ownerIndex = 0; ownerIndex < this.ownerMasks.length; ownerIndex++) {
+            this.ownerMasks[ownerIndex] &= ~cellBit;
+        }
+        this.kingMask &= ~cellBit;
+        this.blockingMask &= ~cellBit;
+        this.movedMask &= ~cellBit;
+
+        PlacedUnit unit = getUnitAtCell(cellIndex);
+        if (unit != null) {
+            this.ownerMasks[unit.getOwner().ordinal()] |= cellBit;
+            if (unit.isKing()) {
+                this.kingMask |= cellBit;
+            }
+            if (unit.isBlocking()) {
+                this.blockingMask |= cellBit;
+            }
+            if (unit.hasMoved()) {
+                this.movedMask |= cellBit;
+            }
+        }
+
+        refreshKey(cellIndex, unit);
+        this.modificationCount++;
+        assert isIndexConsistent() : StringConstants.ERROR_BOARD_INDEX;
+    }
+
+    private void refreshKey(int cellIndex, PlacedUnit unit) {
+        this.zobristKey ^= this.cellKeys[cellIndex];
+        this.cellKeys[cellIndex] = unit == null ? 0 : Zobrist.pieceKey(cellIndex, unit.getOwner(),
+                unit.isFlipped(), unit.isBlocking(), unit.hasMoved(), unit.getUnit());
+        this.zobristKey ^= this.cellKeys[cellIndex];
+    }
+
+    /**
+     * Compares the occupancy, king, blocking and moved masks with a full scan of the grid.
+     * Only called if assertions are enabled (java -ea), as a debug mode for the incremental index.
+     * @return True if the masks match the grid
+     */
+    private boolean isIndexConsistent() {
+        long[] scannedOwners = new long[this.ownerMasks.length];
+        long scannedKings = 0;
+        long scannedBlocking = 0;
+        long scannedMoved = 0;
+        for (int cellIndex = 0; cellIndex < CELL_COUNT; cellIndex++) {
+            PlacedUnit unit = getUnitAtCell(cellIndex);
+            if (unit != null) {
+                long cellBit = 1L << cellIndex;
+                scannedOwners[unit.getOwner().ordinal()] |= cellBit;
+                scannedKings |= unit.getName().equals(StringConstants.KING_NAME) ? cellBit : 0;
+                scannedBlocking |= unit.isBlocking() ? cellBit : 0;
+                scannedMoved |= unit.hasMoved() ? cellBit : 0;
+            }
+        }
+        return Arrays.equals(scannedOwners, this.ownerMasks) && scannedKings == this.kingMask
+                && scannedBlocking == this.blockingMask && scannedMoved == this.movedMask;
     }
 
     /**
@@ -39,7 +255,7 @@ public class Board {
     }
 
     private boolean isOccupiedBy(Position position, PlayerType type) {
-        return !isEmpty(position) && this.grid[position.column()][position.row()].getOwner() == type;
+        return (this.ownerMasks[type.ordinal()] & (1L << cellIndex(position))) != 0;
     }
 
     /**
@@ -52,6 +268,9 @@ public class Board {
             throw new IllegalStateException(StringConstants.ERROR_POSITION_OCCUPIED);
         }
         this.grid[position.column()][position.row()] = unit;
+        int cellIndex = cellIndex(position);
+        unit.attach(this, cellIndex);
+        refreshMasks(cellIndex);
     }
 
     /**
@@ -64,6 +283,10 @@ public class Board {
         int row = position.row();
         PlacedUnit unit = this.grid[column][row];
         this.grid[column][row] = null;
+        if (unit != null) {
+            unit.detach();
+            refreshMasks(cellIndex(position));
+        }
         return unit;
     }
 
@@ -93,89 +316,53 @@ public class Board {
     }
 
     /**
-     * Finds a unit by name and owner.
-     * @param name Name
-     * @param owner Owner
-     * @return Position or null
-     */
-    public Position findUnit(String name, PlayerType owner) {
-        Position found = null;
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int column = 0; column < BOARD_SIZE; column++) {
-                Position position = new Position(column, row);
-                Optional<PlacedUnit> unitOptional = getUnitAt(position);
-                if (unitOptional.isPresent() && unitOptional.get().getOwner() == owner && unitOptional.get().getName().equals(name)) {
-                    found = position;
-                    break;
-                }
-            }
-            if (found != null) {
-                break;
-            }
-        }
-        return found;
-    }
-
-    /**
-     * Gets a list of all unmoved enemy units.
-     * @return List of positions
+     * Finds the king of a player in constant time.
+     * @param owner The owner of the king
+     * @return The position of the king, or null if it is not on the board
      */
-    public List<Position> getUnmovedEnemyUnits() {
-        List<Position> unmovedList = new ArrayList<>();
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int column = 0; column < BOARD_SIZE; column++) {
-                PlacedUnit unit = this.grid[column][row];
-                if (unit != null && unit.isUnmovedEnemy()) {
-                    unmovedList.add(new Position(column, row));
-                }
-            }
-        }
-        return unmovedList;
+    public Position findKing(PlayerType owner) {
+        long ownKingMask = this.kingMask & this.ownerMasks[owner.ordinal()];
+        return ownKingMask == 0 ? null : cellPosition(Long.numberOfTrailingZeros(ownKingMask));
     }
 
     private int countUnits(Position position, boolean useEightDirections, PlayerType type, Position excludePosition) {
-        int count = 0;
-        int[][] directions = useEightDirections ? DIRECTIONS_EIGHT : DIRECTIONS_FOUR;
-        for (int[] directionArray : directions) {
-            Position positionToCheck = position.translate(directionArray[0], directionArray[1]);
-            if (positionToCheck != null && !positionToCheck.equals(excludePosition) && isOccupiedBy(positionToCheck, type)) {
-                count++;
-            }
+        long[] neighbourMasks = useEightDirections ? NEIGHBOURS_EIGHT : NEIGHBOURS_FOUR;
+        long candidateMask = neighbourMasks[cellIndex(position)] & this.ownerMasks[type.ordinal()];
+        if (excludePosition != null) {
+            candidateMask &= ~(1L << cellIndex(excludePosition));
         }
-        return count;
+        return Long.bitCount(candidateMask);
     }
 
     /**
-     * Gets the highest attack value around.
-     * @param position center
+     * Gets the highest attack value of the opposing units around a unit.
+     * @param position center, holding the unit
      * @return maximum attack
      */
     public int getMaximumSurroundingEnemyAttack(Position position) {
         int maximumAttack = 0;
-        for (int[] directionArray : DIRECTIONS_FOUR) {
-            Position positionToCheck = position.translate(directionArray[0], directionArray[1]);
-            if (positionToCheck != null) {
-                Optional<PlacedUnit> unitOptional = getUnitAt(positionToCheck);
-                if (unitOptional.isPresent() && unitOptional.get().getOwner() == PlayerType.PLAYER) {
-                    maximumAttack = Math.max(maximumAttack, unitOptional.get().getAttack());
-                }
-            }
+        PlayerType opponent = getUnitAt(position).orElseThrow().getOwner().next();
+        long remainingMask = NEIGHBOURS_FOUR[cellIndex(position)] & this.ownerMasks[opponent.ordinal()];
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            maximumAttack = Math.max(maximumAttack, getUnitAtCell(cellIndex).getAttack());
         }
         return maximumAttack;
     }
 
-    private int calculateKingScore(Position positionToEvaluate, Position kingPosition) {
-        int fellows = countUnits(positionToEvaluate, true, PlayerType.ENEMY, kingPosition);
-        int enemies = countUnits(positionToEvaluate, true, PlayerType.PLAYER, null);
+    private int calculateKingScore(Position positionToEvaluate, Position kingPosition, PlayerType owner) {
+        int fellows = countUnits(positionToEvaluate, true, owner, kingPosition);
+        int enemies = countUnits(positionToEvaluate, true, owner.next(), null);
         int distance = kingPosition.distanceTo(positionToEvaluate);
-        int present = (isOccupiedBy(positionToEvaluate, PlayerType.ENEMY) && !positionToEvaluate.equals(kingPosition)) ? 1 : 0;
+        int present = (isOccupiedBy(positionToEvaluate, owner) && !positionToEvaluate.equals(kingPosition)) ? 1 : 0;
         return fellows - 2 * enemies - distance - 3 * present;
     }
 
-    private int calculatePlacementScore(Position positionToEvaluate, Position playerKingPosition) {
+    private int calculatePlacementScore(Position positionToEvaluate, Position playerKingPosition, PlayerType owner) {
         int distance = positionToEvaluate.distanceTo(playerKingPosition);
-        int enemies = countUnits(positionToEvaluate, false, PlayerType.PLAYER, null);
-        int fellows = countUnits(positionToEvaluate, false, PlayerType.ENEMY, null);
+        int enemies = countUnits(positionToEvaluate, false, owner.next(), null);
+        int fellows = countUnits(positionToEvaluate, false, owner, null);
         return -distance + 2 * enemies - fellows;
     }
 
@@ -183,7 +370,7 @@ public class Board {
      * Evaluates AI target score safely.
      * @param sourcePosition Source
      * @param targetPosition Target (must not be null)
-     * @param playerKingPosition Player king
+     * @param playerKingPosition The opposing king
      * @return the score
      */
     public int evaluateTargetScore(Position sourcePosition, Position targetPosition, Position playerKingPosition) {
@@ -193,7 +380,7 @@ public class Board {
 
         if (targetUnit == null) {
             int distance = targetPosition.distanceTo(playerKingPosition);
-            int enemies = countUnits(targetPosition, false, PlayerType.PLAYER, null);
+            int enemies = countUnits(targetPosition, false, unit.getOwner().next(), null);
             resultScore = 10 - distance - enemies;
         } else {
             PlayerType targetOwner = targetUnit.getOwner();
@@ -201,10 +388,10 @@ public class Board {
             int targetDefense = targetUnit.getDefense();
             int unitAttack = unit.getAttack();
 
-            if (targetOwner == PlayerType.ENEMY) {
-                Optional<Unit> combinedUnitOptional = unit.getUnit().combineWith(targetUnit.getUnit());
-                resultScore = combinedUnitOptional.map(combinedUnit -> combinedUnit.attack() + combinedUnit.defense() - unitAttack - unit.getDefense())
-                        .orElse(-targetAttack - targetDefense);
+            if (targetOwner == unit.getOwner()) {
+                long outcome = unit.lookUpUnion(targetUnit, this.unionTable);
+                resultScore = outcome == UnionTable.NO_UNION ? -targetAttack - targetDefense
+                        : UnionTable.getStrength(outcome) - unitAttack - unit.getDefense();
             } else if (targetUnit.isKing()) {
                 resultScore = unitAttack;
             } else if (!targetUnit.isFlipped()) {
@@ -219,7 +406,7 @@ public class Board {
     }
 
     /**
-     * Finds the best King move for AI.
+     * Finds the best King move for AI, for the owner of the king.
      * @param kingPosition the king
      * @param randomGenerator random
      * @return The position
@@ -228,10 +415,11 @@ public class Board {
         Position bestResult = kingPosition;
         int maximumScore = Integer.MIN_VALUE;
         List<Position> bestOptions = new ArrayList<>();
+        PlayerType owner = getUnitAt(kingPosition).orElseThrow().getOwner();
 
         for (Position position : kingPosition.getAdjacentAndCenter()) {
-            if (Position.isValid(position.column(), position.row()) && !isOccupiedBy(position, PlayerType.PLAYER)) {
-                int scoreValue = calculateKingScore(position, kingPosition);
+            if (Position.isValid(position.column(), position.row()) && !isOccupiedBy(position, owner.next())) {
+                int scoreValue = calculateKingScore(position, kingPosition, owner);
                 if (scoreValue > maximumScore) {
                     maximumScore = scoreValue;
                     bestOptions.clear();
@@ -245,19 +433,15 @@ public class Board {
         if (bestOptions.size() == 1) {
             bestResult = bestOptions.getFirst();
         } else if (bestOptions.size() > 1) {
-            List<Integer> weights = new ArrayList<>();
-            for (int index = 0; index < bestOptions.size(); index++) {
-                weights.add(1);
-            }
-            bestResult = bestOptions.get(RandomUtils.weightedRandom(weights, randomGenerator));
+            bestResult = bestOptions.get(RandomUtils.uniformRandom(bestOptions.size(), randomGenerator));
         }
         return bestResult;
     }
 
     /**
-     * Finds best placement for AI.
+     * Finds best placement for AI, for the owner of the king.
      * @param kingPosition King
-     * @param playerKingPosition Player king
+     * @param playerKingPosition The opposing king
      * @param randomGenerator Random
      * @return Position or null
      */
@@ -265,11 +449,12 @@ public class Board {
         Position bestResult = null;
         int maximumScore = Integer.MIN_VALUE;
         List<Position> bestFields = new ArrayList<>();
+        PlayerType owner = getUnitAt(kingPosition).orElseThrow().getOwner();
 
-        for (int[] directionArray : DIRECTIONS_EIGHT) {
-            Position position = kingPosition.translate(directionArray[0], directionArray[1]);
-            if (position != null && !isOccupiedBy(position, PlayerType.PLAYER)) {
-                int scoreValue = calculatePlacementScore(position, playerKingPosition);
+        for (int neighbourIndex : Position.neighbourIndices(kingPosition.index(), true)) {
+            Position position = cellPosition(neighbourIndex);
+            if (!isOccupiedBy(position, owner.next())) {
+                int scoreValue = calculatePlacementScore(position, playerKingPosition, owner);
                 if (scoreValue > maximumScore) {
                     maximumScore = scoreValue;
                     bestFields.clear();
@@ -283,11 +468,7 @@ public class Board {
         if (bestFields.size() == 1) {
             bestResult = bestFields.getFirst();
         } else if (bestFields.size() > 1) {
-            List<Integer> weights = new ArrayList<>();
-            for (int index = 0; index < bestFields.size(); index++) {
-                weights.add(1);
-            }
-            bestResult = bestFields.get(RandomUtils.weightedRandom(weights, randomGenerator));
+            bestResult = bestFields.get(RandomUtils.uniformRandom(bestFields.size(), randomGenerator));
         }
         return bestResult;
     }
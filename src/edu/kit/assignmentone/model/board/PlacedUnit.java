@@ -5,6 +5,8 @@ import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
 import edu.kit.assignmentone.model.player.PlayerType;
 import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnitCatalog;
+import edu.kit.assignmentone.model.units.UnionTable;
 
 /**
  * Represents a unit that is currently placed on the board.
@@ -15,43 +17,97 @@ import edu.kit.assignmentone.model.units.Unit;
 public class PlacedUnit {
 
     private Unit unit;
+    private int catalogId;
+    private boolean king;
     private final PlayerType owner;
     private boolean flipped;
-    private boolean moved;
+    private int movedEpoch;
     private boolean blocking;
+    private Board board;
+    private int cellIndex;
 
     /**
      * Creates a newly placed unit.
-     * @param unit  The logical unit definition
-     * @param owner The player who owns this unit
+     * @param unit      The logical unit definition
+     * @param catalogId The catalog ID of the unit, or {@link UnitCatalog#NO_ID} for a combined unit
+     * @param owner     The player who owns this unit
      */
-    public PlacedUnit(Unit unit, PlayerType owner) {
-        this.unit = unit;
+    public PlacedUnit(Unit unit, int catalogId, PlayerType owner) {
+        assignUnit(unit, catalogId);
         this.owner = owner;
         this.flipped = false;
-        this.moved = false;
+        this.movedEpoch = Board.NO_EPOCH;
         this.blocking = false;
     }
 
+    /**
+     * Creates an unplaced copy of this unit with the same flags.
+     * @return The copied unit
+     */
+    public PlacedUnit copy() {
+        PlacedUnit unitCopy = new PlacedUnit(this.unit, this.catalogId, this.owner);
+        unitCopy.flipped = this.flipped;
+        unitCopy.movedEpoch = this.movedEpoch;
+        unitCopy.blocking = this.blocking;
+        return unitCopy;
+    }
+
     /** @return the internal unit */
     public Unit getUnit() { return this.unit; }
-    /** @param unit the internal unit to set */
-    public void setUnit(Unit unit) { this.unit = unit; }
+    /** @return the catalog ID of the internal unit, or {@link UnitCatalog#NO_ID} for a combined unit */
+    public int getCatalogId() { return this.catalogId; }
+    /** @param unit the combined unit to set */
+    public void setUnit(Unit unit) {
+        assignUnit(unit, UnitCatalog.NO_ID);
+        refreshBoard();
+    }
+    /**
+     * Restores the unit definition and all flags at once, e.g. to undo an action.
+     * @param restoredUnit The unit definition
+     * @param restoredId   The catalog ID of the unit definition
+     * @param isFlipped    True if the unit is flipped
+     * @param hasMoved     True if the unit has moved this turn
+     * @param isBlocking   True if the unit is blocking
+     */
+    public void restoreState(Unit restoredUnit, int restoredId, boolean isFlipped, boolean hasMoved, boolean isBlocking) {
+        assignUnit(restoredUnit, restoredId);
+        this.flipped = isFlipped;
+        this.movedEpoch = hasMoved ? currentEpoch() : Board.NO_EPOCH;
+        this.blocking = isBlocking;
+        refreshBoard();
+    }
+    private void assignUnit(Unit newUnit, int newCatalogId) {
+        this.unit = newUnit;
+        this.catalogId = newCatalogId;
+        this.king = newUnit.equals(UnitCatalog.KING);
+    }
     /** @return the unit owner */
     public PlayerType getOwner() { return this.owner; }
 
     /** @return true if the unit is flipped */
     public boolean isFlipped() { return this.flipped; }
     /** @param flipped true to flip the unit */
-    public void setFlipped(boolean flipped) { this.flipped = flipped; }
+    public void setFlipped(boolean flipped) {
+        this.flipped = flipped;
+        refreshBoard();
+    }
 
     /** @param moved true to mark the unit as moved this turn */
-    public void setMoved(boolean moved) { this.moved = moved; }
+    public void setMoved(boolean moved) {
+        this.movedEpoch = moved ? currentEpoch() : Board.NO_EPOCH;
+        refreshBoard();
+    }
+    /**
+     * Checks whether the unit has moved in the current turn of the board it is placed on.
+     * Units that are not placed on a board have not moved.
+     * @return true if the unit has moved this turn
+     */
+    public boolean hasMoved() { return this.board != null && this.movedEpoch == this.board.getTurnEpoch(); }
     /** @return true if the unit is blocking */
     public boolean isBlocking() { return this.blocking; }
 
     /** @return true if this unit is a king */
-    public boolean isKing() { return this.unit.fullName().equals(StringConstants.KING_NAME); }
+    public boolean isKing() { return this.king; }
     /** @return the attack value */
     public int getAttack() { return this.unit.attack(); }
     /** @return the defense value */
@@ -59,6 +115,41 @@ public class PlacedUnit {
     /** @return the full name of the unit */
     public String getName() { return this.unit.fullName(); }
 
+    /**
+     * Looks up the outcome of this unit joining a target unit.
+     * @param targetUnit The unit to join
+     * @param unionTable The union table of the catalog both units come from
+     * @return The outcome, {@link UnionTable#NO_UNION} if the union fails
+     */
+    public long lookUpUnion(PlacedUnit targetUnit, UnionTable unionTable) {
+        return unionTable.lookUp(this.unit, this.catalogId, targetUnit.unit, targetUnit.catalogId);
+    }
+
+    /**
+     * Binds this unit to the board cell it has been placed on.
+     * @param hostBoard The board holding this unit
+     * @param hostCellIndex The cell index on that board
+     */
+    void attach(Board hostBoard, int hostCellIndex) {
+        this.board = hostBoard;
+        this.cellIndex = hostCellIndex;
+    }
+
+    /** Releases this unit from the board it was placed on. */
+    void detach() {
+        this.board = null;
+    }
+
+    private int currentEpoch() {
+        return this.board == null ? Board.NO_EPOCH : this.board.getTurnEpoch();
+    }
+
+    private void refreshBoard() {
+        if (this.board != null) {
+            this.board.refreshMasks(this.cellIndex);
+        }
+    }
+
     /**
      * Unblocks the unit if it is currently blocking.
      * @return true if the unit was unblocked
@@ -68,6 +159,7 @@ public class PlacedUnit {
         if (this.blocking) {
             this.blocking = false;
             unblocked = true;
+            refreshBoard();
         }
         return unblocked;
     }
@@ -81,6 +173,7 @@ public class PlacedUnit {
         if (!this.flipped && !this.isKing()) {
             this.flipped = true;
             flippedNow = true;
+            refreshBoard();
         }
         return flippedNow;
     }
@@ -90,7 +183,8 @@ public class PlacedUnit {
      */
     public void block() {
         this.blocking = true;
-        this.moved = true;
+        this.movedEpoch = currentEpoch();
+        refreshBoard();
     }
 
     /**
@@ -98,7 +192,7 @@ public class PlacedUnit {
      * @return true if unmoved enemy
      */
     public boolean isUnmovedEnemy() {
-        return this.owner == PlayerType.ENEMY && !this.moved && !this.isKing();
+        return this.owner == PlayerType.ENEMY && !hasMoved() && !this.isKing();
     }
 
     /**
@@ -108,7 +202,7 @@ public class PlacedUnit {
      * @throws IllegalStateException If the move is invalid
      */
     public void requireValidMove(int distance, PlacedUnit targetUnit) {
-        if (this.moved) {
+        if (hasMoved()) {
             throw new IllegalStateException(StringConstants.ERROR_ALREADY_MOVED);
         }
         if (distance > 1) {
@@ -2,10 +2,14 @@ package edu.kit.assignmentone.model.board;
 
 import edu.kit.assignmentone.model.StringConstants;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents a position on the game board.
+ * Use {@link #of(int, int)} to obtain the shared instance of a field instead of creating a new one.
+ * Every field also has a cell index (row * 7 + column), for which the neighbours and the
+ * distances to all other fields are precomputed.
  *
  * @param column The column index (0 to 6, where 0 = 'A')
  * @param row The row index (0 to 6, where 0 = '1')
@@ -20,6 +24,120 @@ public record Position(int column, int row) {
     private static final char ROW_OFFSET = '1';
     private static final int EXPECTED_LENGTH = 2;
 
+    /** The number of columns and rows of the board. */
+    public static final int BOARD_SIZE = MAXIMUM_INDEX + 1;
+    /** The number of fields of the board. */
+    public static final int CELL_COUNT = BOARD_SIZE * BOARD_SIZE;
+
+    private static final int[][] DIRECTIONS_FOUR = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
+    private static final int[][] DIRECTIONS_EIGHT = {{0, 1}, {1, 1}, {1, 0}, {1, -1}, {0, -1}, {-1, -1}, {-1, 0}, {-1, 1}};
+    private static final Position[] POSITIONS = createPositions();
+    private static final int[][] NEIGHBOURS_FOUR = createNeighbours(DIRECTIONS_FOUR);
+    private static final int[][] NEIGHBOURS_EIGHT = createNeighbours(DIRECTIONS_EIGHT);
+    private static final int[][] DISTANCES = createDistances();
+    private static final List<List<Position>> ADJACENT_AND_CENTER = createAdjacentAndCenter();
+
+    private static Position[] createPositions() {
+        Position[] positions = new Position[CELL_COUNT];
+        for (int cellIndex = 0; cellIndex < CELL_COUNT; cellIndex++) {
+            positions[cellIndex] = new Position(cellIndex % BOARD_SIZE, cellIndex / BOARD_SIZE);
+        }
+        return positions;
+    }
+
+    private static int[][] createNeighbours(int[][] directions) {
+        int[][] neighbours = new int[CELL_COUNT][];
+        for (int cellIndex = 0; cellIndex < CELL_COUNT; cellIndex++) {
+            int[] candidates = new int[directions.length];
+            int count = 0;
+            for (int[] directionArray : directions) {
+                int column = cellIndex % BOARD_SIZE + directionArray[0];
+                int row = cellIndex / BOARD_SIZE + directionArray[1];
+                if (isValid(column, row)) {
+                    candidates[count++] = row * BOARD_SIZE + column;
+                }
+            }
+            neighbours[cellIndex] = Arrays.copyOf(candidates, count);
+        }
+        return neighbours;
+    }
+
+    private static int[][] createDistances() {
+        int[][] distances = new int[CELL_COUNT][CELL_COUNT];
+        for (int firstIndex = 0; firstIndex < CELL_COUNT; firstIndex++) {
+            for (int secondIndex = 0; secondIndex < CELL_COUNT; secondIndex++) {
+                distances[firstIndex][secondIndex] = Math.abs(firstIndex % BOARD_SIZE - secondIndex % BOARD_SIZE)
+                        + Math.abs(firstIndex / BOARD_SIZE - secondIndex / BOARD_SIZE);
+            }
+        }
+        return distances;
+    }
+
+    private static List<List<Position>> createAdjacentAndCenter() {
+        List<List<Position>> lists = new ArrayList<>();
+        for (int cellIndex = 0; cellIndex < CELL_COUNT; cellIndex++) {
+            List<Position> positionList = new ArrayList<>();
+            for (int neighbourIndex : NEIGHBOURS_FOUR[cellIndex]) {
+                positionList.add(POSITIONS[neighbourIndex]);
+            }
+            positionList.add(POSITIONS[cellIndex]);
+            lists.add(List.copyOf(positionList));
+        }
+        return List.copyOf(lists);
+    }
+
+    /**
+     * Gets the shared instance of a field.
+     * @param column The column index
+     * @param row The row index
+     * @return The position
+     * @throws IllegalArgumentException If the field is not on the board
+     */
+    public static Position of(int column, int row) {
+        if (!isValid(column, row)) {
+            throw new IllegalArgumentException(StringConstants.ERROR_POSITION_FORMAT);
+        }
+        return POSITIONS[row * BOARD_SIZE + column];
+    }
+
+    /**
+     * Gets the shared instance of a field by its cell index.
+     * @param cellIndex The cell index (row * 7 + column)
+     * @return The position
+     */
+    public static Position ofIndex(int cellIndex) {
+        return POSITIONS[cellIndex];
+    }
+
+    /**
+     * Gets the cell index of this position.
+     * @return The cell index (row * 7 + column)
+     */
+    public int index() {
+        return this.row * BOARD_SIZE + this.column;
+    }
+
+    /**
+     * Gets the precomputed cell indices of the horizontal and vertical (or all eight) neighbours of a cell.
+     * The four neighbours are ordered up, right, down, left. The returned array is shared and must not be modified.
+     * @param cellIndex The cell index
+     * @param useEightDirections True to include the diagonal neighbours
+     * @return The neighbour indices
+     */
+    public static int[] neighbourIndices(int cellIndex, boolean useEightDirections) {
+        return useEightDirections ? NEIGHBOURS_EIGHT[cellIndex] : NEIGHBOURS_FOUR[cellIndex];
+    }
+
+    /**
+     * Gets the precomputed Manhattan distance between two cells.
+     * @param firstIndex The first cell index
+     * @param secondIndex The second cell index
+     * @return The distance in steps
+     */
+    public static int distance(int firstIndex, int secondIndex) {
+        return DISTANCES[firstIndex][secondIndex];
+    }
+
     /**
      * Parses a string representation into a Position.
      * @param positionString The string representation of the position
@@ -31,17 +149,26 @@ public record Position(int column, int row) {
             throw new IllegalArgumentException(StringConstants.ERROR_POSITION_FORMAT);
         }
 
-        char columnCharacter = Character.toUpperCase(positionString.charAt(0));
-        char rowCharacter = positionString.charAt(1);
+        return fromCharacters(positionString.charAt(0), positionString.charAt(1));
+    }
 
-        int parsedColumn = columnCharacter - COLUMN_OFFSET;
+    /**
+     * Parses the two characters of a position, such as 'd' and '2', without creating a string.
+     * @param columnCharacter The column letter in either case
+     * @param rowCharacter The row digit
+     * @return The parsed Position
+     * @throws IllegalArgumentException If the position is out of bounds
+     */
+    public static Position fromCharacters(char columnCharacter, char rowCharacter) {
+        int parsedColumn = Character.toUpperCase(columnCharacter) - COLUMN_OFFSET;
         int parsedRow = rowCharacter - ROW_OFFSET;
 
         if (!isValid(parsedColumn, parsedRow)) {
+            String positionString = String.valueOf(new char[] {columnCharacter, rowCharacter});
             throw new IllegalArgumentException(String.format(StringConstants.ERROR_POSITION_OUT_OF_BOUNDS, positionString));
         }
 
-        return new Position(parsedColumn, parsedRow);
+        return of(parsedColumn, parsedRow);
     }
 
     /**
@@ -60,45 +187,27 @@ public record Position(int column, int row) {
      * @return The distance in steps
      */
     public int distanceTo(Position otherPosition) {
-        return Math.abs(this.column - otherPosition.column()) + Math.abs(this.row - otherPosition.row());
+        return DISTANCES[index()][otherPosition.index()];
     }
 
     /**
      * Translates the position by given offsets.
      * @param deltaColumn Column offset
      * @param deltaRow Row offset
-     * @return New Position or null if invalid
+     * @return The shared position, or null if invalid
      */
     public Position translate(int deltaColumn, int deltaRow) {
         int newColumn = this.column + deltaColumn;
         int newRow = this.row + deltaRow;
-        return isValid(newColumn, newRow) ? new Position(newColumn, newRow) : null;
+        return isValid(newColumn, newRow) ? POSITIONS[newRow * BOARD_SIZE + newColumn] : null;
     }
 
     /**
      * Returns adjacent positions and center.
-     * @return List of positions
+     * @return Unmodifiable list of the neighbours ordered up, right, down, left, followed by the center
      */
     public List<Position> getAdjacentAndCenter() {
-        List<Position> positionList = new ArrayList<>();
-        Position positionUp = translate(0, 1);
-        if (positionUp != null) {
-            positionList.add(positionUp);
-        }
-        Position positionRight = translate(1, 0);
-        if (positionRight != null) {
-            positionList.add(positionRight);
-        }
-        Position positionDown = translate(0, -1);
-        if (positionDown != null) {
-            positionList.add(positionDown);
-        }
-        Position positionLeft = translate(-1, 0);
-        if (positionLeft != null) {
-            positionList.add(positionLeft);
-        }
-        positionList.add(this);
-        return positionList;
+        return ADJACENT_AND_CENTER.get(index());
     }
 
     @Override
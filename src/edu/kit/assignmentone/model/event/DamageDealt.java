@@ -0,0 +1,15 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * A player has lost life points in a duel.
+ *
+ * @param victim The damaged player
+ * @param damage The lost life points
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record DamageDealt(PlayerType victim, int damage) implements GameEvent {
+}
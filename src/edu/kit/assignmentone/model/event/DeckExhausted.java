@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * A player could not draw a card at the start of the turn.
+ *
+ * @param player The defeated player
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record DeckExhausted(PlayerType player) implements GameEvent {
+}
@@ -0,0 +1,24 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * A unit attacks an enemy unit.
+ *
+ * @param attackerName The name of the attacker
+ * @param attackerAttack The attack value of the attacker
+ * @param attackerDefense The defense value of the attacker
+ * @param defenderName The name of the defender
+ * @param defenderAttack The attack value of the defender
+ * @param defenderDefense The defense value of the defender
+ * @param defenderHidden True if the defender is still covered for the attacking player
+ * @param defenderKing True if the defender is a king
+ * @param position The field of the defender
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record DuelStarted(String attackerName, int attackerAttack, int attackerDefense,
+                          String defenderName, int defenderAttack, int defenderDefense,
+                          boolean defenderHidden, boolean defenderKing, Position position) implements GameEvent {
+}
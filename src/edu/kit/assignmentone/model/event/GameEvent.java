@@ -0,0 +1,13 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * Something that happened in the game and may be narrated to the players.
+ * Events only carry data, formatting them is left to the subscribers.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public sealed interface GameEvent permits UnitPlaced, UnitMoved, UnitBlocked, UnitUnblocked, UnitFlipped,
+        UnitsJoining, UnionSucceeded, UnionFailed, DuelStarted, UnitEliminated, DamageDealt, LifePointsDepleted,
+        DeckExhausted, GameWon, TurnStarted, UnitDiscarded, SelectionChanged {
+}
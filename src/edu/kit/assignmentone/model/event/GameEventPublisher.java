@@ -0,0 +1,113 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.StringConstants;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+/**
+ * A sink that hands every event synchronously to its subscribers, on the thread that publishes it.
+ * Events are buffered per subscriber until they have been requested, so each subscriber sees
+ * all events in the order they happened. The sink is only active while it has subscribers.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class GameEventPublisher implements GameEventSink, Flow.Publisher<GameEvent> {
+
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        Objects.requireNonNull(subscriber);
+        EventSubscription subscription = new EventSubscription(subscriber);
+        this.subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public boolean isActive() {
+        return !this.subscriptions.isEmpty();
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        for (EventSubscription subscription : this.subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Completes all subscriptions after delivering the events they have requested, so that
+     * subscribers can finish their output. The sink is inactive afterwards.
+     */
+    public void close() {
+        for (EventSubscription subscription : this.subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    private final class EventSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final Queue<GameEvent> pendingEvents = new ArrayDeque<>();
+        private long demand;
+        private boolean delivering;
+        private boolean cancelled;
+
+        EventSubscription(Flow.Subscriber<? super GameEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(GameEvent event) {
+            if (!this.cancelled) {
+                this.pendingEvents.add(event);
+                deliver();
+            }
+        }
+
+        @Override
+        public void request(long count) {
+            if (count <= 0) {
+                cancel();
+                this.subscriber.onError(new IllegalArgumentException(StringConstants.ERROR_EVENT_DEMAND));
+                return;
+            }
+            this.demand = this.demand + count < 0 ? Long.MAX_VALUE : this.demand + count;
+            deliver();
+        }
+
+        void complete() {
+            if (!this.cancelled) {
+                deliver();
+                cancel();
+                this.subscriber.onComplete();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.pendingEvents.clear();
+            GameEventPublisher.this.subscriptions.remove(this);
+        }
+
+        private void deliver() {
+            if (this.delivering) {
+                return;
+            }
+            this.delivering = true;
+            while (!this.cancelled && this.demand > 0 && !this.pendingEvents.isEmpty()) {
+                if (this.demand != Long.MAX_VALUE) {
+                    this.demand--;
+                }
+                this.subscriber.onNext(this.pendingEvents.poll());
+            }
+            this.delivering = false;
+        }
+    }
+}
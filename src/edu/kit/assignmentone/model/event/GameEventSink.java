@@ -0,0 +1,28 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * Receives the events of a game. The model checks {@link #isActive()} before it creates an event,
+ * so a sink that is not active makes the narration free.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public interface GameEventSink {
+
+    /** A sink that discards all events, used for simulations and search. */
+    GameEventSink SILENT = new SilentEventSink();
+
+    /**
+     * Checks whether events should be created at all.
+     *
+     * @return True if published events reach a receiver
+     */
+    boolean isActive();
+
+    /**
+     * Publishes an event.
+     *
+     * @param event The event
+     */
+    void publish(GameEvent event);
+}
@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * The game has ended with a winner.
+ *
+ * @param winner The winning player
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record GameWon(PlayerType winner) implements GameEvent {
+}
@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * A player's life points have dropped to zero.
+ *
+ * @param player The defeated player
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record LifePointsDepleted(PlayerType player) implements GameEvent {
+}
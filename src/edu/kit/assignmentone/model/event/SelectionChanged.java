@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * An action has finished and the board should be shown with the given field selected.
+ *
+ * @param position The selected field, or null
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record SelectionChanged(Position position) implements GameEvent {
+}
@@ -0,0 +1,20 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * A sink that is never active and discards every event.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+final class SilentEventSink implements GameEventSink {
+
+    @Override
+    public boolean isActive() {
+        return false;
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        // Nothing to do
+    }
+}
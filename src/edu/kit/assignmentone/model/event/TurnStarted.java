@@ -0,0 +1,14 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * The turn has passed to the next player.
+ *
+ * @param player The player whose turn it is
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record TurnStarted(PlayerType player) implements GameEvent {
+}
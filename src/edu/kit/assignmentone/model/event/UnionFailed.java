@@ -0,0 +1,12 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * The most recent union attempt has failed, eliminating the unit on the field.
+ *
+ * @param eliminatedName The name of the eliminated unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnionFailed(String eliminatedName) implements GameEvent {
+}
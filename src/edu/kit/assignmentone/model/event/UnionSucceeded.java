@@ -0,0 +1,10 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * The most recent union attempt has produced a combined unit.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnionSucceeded() implements GameEvent {
+}
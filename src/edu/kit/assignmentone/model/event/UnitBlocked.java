@@ -0,0 +1,15 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * A unit has started blocking.
+ *
+ * @param unitName The name of the unit
+ * @param position The field of the unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitBlocked(String unitName, Position position) implements GameEvent {
+}
@@ -0,0 +1,16 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.units.Unit;
+
+/**
+ * A unit has been discarded from the hand at the end of a turn.
+ *
+ * @param player The discarding player
+ * @param unit The discarded unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitDiscarded(PlayerType player, Unit unit) implements GameEvent {
+}
@@ -0,0 +1,12 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * A unit has been removed from the board after a duel.
+ *
+ * @param unitName The name of the unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitEliminated(String unitName) implements GameEvent {
+}
@@ -0,0 +1,17 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * A covered unit has been turned face up.
+ *
+ * @param unitName The name of the unit
+ * @param attack The attack value of the unit
+ * @param defense The defense value of the unit
+ * @param position The field of the unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitFlipped(String unitName, int attack, int defense, Position position) implements GameEvent {
+}
@@ -0,0 +1,15 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * A unit has moved to a field, or stayed on its field for a move en place.
+ *
+ * @param unitName The name of the unit
+ * @param position The target field
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitMoved(String unitName, Position position) implements GameEvent {
+}
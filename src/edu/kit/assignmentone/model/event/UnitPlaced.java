@@ -0,0 +1,17 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * A unit has been placed from the hand onto an empty field.
+ *
+ * @param player The placing player
+ * @param unitName The full name of the placed unit
+ * @param position The field
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitPlaced(PlayerType player, String unitName, Position position) implements GameEvent {
+}
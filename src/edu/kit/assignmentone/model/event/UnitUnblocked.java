@@ -0,0 +1,12 @@
+package edu.kit.assignmentone.model.event;
+
+/**
+ * A blocking unit has stopped blocking because it moves.
+ *
+ * @param unitName The name of the unit
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitUnblocked(String unitName) implements GameEvent {
+}
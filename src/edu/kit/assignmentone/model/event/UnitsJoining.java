@@ -0,0 +1,16 @@
+package edu.kit.assignmentone.model.event;
+
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * A unit tries to form a union with a friendly unit.
+ *
+ * @param joiningName The name of the joining unit
+ * @param targetName The name of the unit on the field
+ * @param position The field of the union
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record UnitsJoining(String joiningName, String targetName, Position position) implements GameEvent {
+}
@@ -1,48 +1,123 @@
 package edu.kit.assignmentone.model.player;
 
-import edu.kit.assignmentone.model.units.Unit;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 
 /**
- * Represents a deck of units for a player.
+ * Represents a deck of units for a player, holding the catalog IDs of its cards.
+ * The cards are kept in a ring buffer, so drawing and returning the top card take constant time
+ * regardless of the deck size.
  *
  * @author uqhkm
  * @version 1.0
  */
 public class Deck {
 
-    private final List<Unit> units;
+    /** Returned by {@link #drawTopCard()} if the deck is empty. */
+    public static final int NO_CARD = -1;
+
+    private static final int INITIAL_CAPACITY = 40;
+
+    private int[] cards;
+    private int head;
+    private int size;
 
     public Deck() {
-        this.units = new ArrayList<>();
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty deck with room for the given number of cards before it grows.
+     *
+     * @param capacity The expected number of cards
+     */
+    public Deck(int capacity) {
+        this.cards = new int[Math.max(capacity, 1)];
     }
 
-    public void addUnit(Unit unit) {
-        this.units.add(unit);
+    /**
+     * Creates a copy of this deck with the same card order.
+     *
+     * @return The copied deck
+     */
+    public Deck copy() {
+        Deck deckCopy = new Deck(this.cards.length);
+        System.arraycopy(this.cards, 0, deckCopy.cards, 0, this.cards.length);
+        deckCopy.head = this.head;
+        deckCopy.size = this.size;
+        return deckCopy;
+    }
+
+    /**
+     * Adds a card to the bottom of the deck.
+     *
+     * @param cardId The catalog ID of the card
+     */
+    public void addCard(int cardId) {
+        ensureCapacity();
+        this.cards[slot(this.size)] = cardId;
+        this.size++;
     }
 
     /**
-     * Shuffles the deck using the given random generator.
+     * Shuffles the deck in place using the given random generator, in the same order as
+     * {@link java.util.Collections#shuffle(java.util.List, Random)} shuffles a list.
      *
      * @param randomGenerator The global random instance
      */
     public void shuffle(Random randomGenerator) {
-        Collections.shuffle(this.units, randomGenerator);
+        for (int index = this.size; index > 1; index--) {
+            int slot = slot(index - 1);
+            int swapSlot = slot(randomGenerator.nextInt(index));
+            int card = this.cards[slot];
+            this.cards[slot] = this.cards[swapSlot];
+            this.cards[swapSlot] = card;
+        }
     }
 
-    public Optional<Unit> drawTopUnit() {
-        if (this.units.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Removes the top card of the deck.
+     *
+     * @return The catalog ID of the card, or {@link #NO_CARD} if the deck is empty
+     */
+    public int drawTopCard() {
+        if (this.size == 0) {
+            return NO_CARD;
         }
-        return Optional.of(this.units.removeFirst());
+        int card = this.cards[this.head];
+        this.head = slot(1);
+        this.size--;
+        return card;
+    }
+
+    /**
+     * Puts a drawn card back on top of the deck.
+     *
+     * @param cardId The catalog ID of the card
+     */
+    public void returnToTop(int cardId) {
+        ensureCapacity();
+        this.head = this.head == 0 ? this.cards.length - 1 : this.head - 1;
+        this.cards[this.head] = cardId;
+        this.size++;
     }
 
     public int size() {
-        return this.units.size();
+        return this.size;
+    }
+
+    private int slot(int offset) {
+        int slot = this.head + offset;
+        return slot >= this.cards.length ? slot - this.cards.length : slot;
+    }
+
+    private void ensureCapacity() {
+        if (this.size == this.cards.length) {
+            int[] grownCards = new int[this.cards.length * 2];
+            int firstPartLength = this.cards.length - this.head;
+            System.arraycopy(this.cards, this.head, grownCards, 0, firstPartLength);
+            System.arraycopy(this.cards, 0, grownCards, firstPartLength, this.head);
+            this.cards = grownCards;
+            this.head = 0;
+        }
     }
-}
\ No newline at end of file
+}
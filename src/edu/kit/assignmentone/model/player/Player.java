@@ -1,13 +1,13 @@
 package edu.kit.assignmentone.model.player;
 
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.Zobrist;
 import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnitCatalog;
 import edu.kit.assignmentone.model.RandomUtils;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 
 /**
@@ -21,6 +21,9 @@ public class Player {
     /** The maximum number of units allowed on the board per player. */
     public static final int MAXIMUM_BOARD_CAPACITY = 5;
 
+    /** Hand index used when a yield does not discard a card. */
+    public static final int NO_DISCARD = -1;
+
     private static final int MAXIMUM_LIFE_POINTS = 8000;
     private static final int MAXIMUM_DECK_CAPACITY = 40;
     private static final int INITIAL_HAND_SIZE = 4;
@@ -28,24 +31,70 @@ public class Player {
 
     private final PlayerType type;
     private final Deck deck;
-    private final List<Unit> hand;
+    private final UnitCatalog catalog;
+    private int[] hand;
+    private int handSize;
     private int lifePoints;
     private int boardCount;
     private boolean placedThisTurn;
+    private long handKey;
+    private long stateKey;
 
     /**
      * Creates a new player.
      *
      * @param type The player type
      * @param deck The player's deck
+     * @param catalog The catalog the IDs in the deck refer to
      */
-    public Player(PlayerType type, Deck deck) {
+    public Player(PlayerType type, Deck deck, UnitCatalog catalog) {
         this.type = type;
         this.deck = deck;
-        this.hand = new ArrayList<>();
+        this.catalog = catalog;
+        this.hand = new int[FULL_HAND_SIZE];
         this.lifePoints = MAXIMUM_LIFE_POINTS;
         this.boardCount = 0;
         this.placedThisTurn = false;
+        this.stateKey = Zobrist.lifeKey(type, this.lifePoints);
+    }
+
+    /**
+     * Creates a deep copy of this player, including hand and deck.
+     *
+     * @return The copied player
+     */
+    public Player copy() {
+        Player playerCopy = new Player(this.type, this.deck.copy(), this.catalog);
+        playerCopy.hand = Arrays.copyOf(this.hand, this.hand.length);
+        playerCopy.handSize = this.handSize;
+        playerCopy.lifePoints = this.lifePoints;
+        playerCopy.boardCount = this.boardCount;
+        playerCopy.placedThisTurn = this.placedThisTurn;
+        playerCopy.handKey = this.handKey;
+        playerCopy.stateKey = this.stateKey;
+        return playerCopy;
+    }
+
+    /**
+     * Reshuffles the cards this player's opponent cannot know. The deck is always shuffled;
+     * with {@code includeHand} the hand is shuffled back into the deck and redrawn first.
+     *
+     * @param includeHand     True if the hand is unknown as well
+     * @param randomGenerator The random generator
+     */
+    public void shuffleUnknownCards(boolean includeHand, Random randomGenerator) {
+        int previousHandSize = this.handSize;
+        if (includeHand) {
+            for (int index = 0; index < this.handSize; index++) {
+                this.deck.addCard(this.hand[index]);
+            }
+            this.handSize = 0;
+            this.handKey = 0;
+        }
+        this.deck.shuffle(randomGenerator);
+        while (includeHand && this.handSize < previousHandSize) {
+            drawCard();
+        }
     }
 
     /**
@@ -65,16 +114,28 @@ public class Player {
         if (amount < 0) {
             throw new IllegalArgumentException(StringConstants.ERROR_NEGATIVE_DAMAGE);
         }
+        this.stateKey ^= Zobrist.lifeKey(this.type, this.lifePoints);
         this.lifePoints = Math.max(0, this.lifePoints - amount);
+        this.stateKey ^= Zobrist.lifeKey(this.type, this.lifePoints);
         return this.lifePoints == 0;
     }
 
     /**
-     * Gets the player's current hand.
-     * @return An unmodifiable list of units
+     * Gets the catalog ID of a card in the hand.
+     * @param index The zero-based hand index
+     * @return The ID
      */
-    public List<Unit> getHand() {
-        return Collections.unmodifiableList(this.hand);
+    public int getHandId(int index) {
+        return this.hand[index];
+    }
+
+    /**
+     * Gets a unit in the hand.
+     * @param index The zero-based hand index
+     * @return The unit
+     */
+    public Unit getHandUnit(int index) {
+        return this.catalog.getUnit(this.hand[index]);
     }
 
     /**
@@ -82,7 +143,16 @@ public class Player {
      * @return The size
      */
     public int getHandSize() {
-        return this.hand.size();
+        return this.handSize;
+    }
+
+    /**
+     * Formats a card in the hand for console output.
+     * @param index The zero-based hand index
+     * @return The formatted line, numbered from 1
+     */
+    public String formatHandInformation(int index) {
+        return this.catalog.formatHandInformation(this.hand[index], index + 1);
     }
 
     /**
@@ -90,30 +160,57 @@ public class Player {
      * @return True if full
      */
     public boolean isHandFull() {
-        return this.hand.size() == FULL_HAND_SIZE;
+        return this.handSize == FULL_HAND_SIZE;
     }
 
     /**
-     * Processes the yield command logic for the player.
+     * Processes the yield logic for the player with an already parsed hand index.
      *
-     * @param arguments The command arguments
+     * @param discardIndex The zero-based hand index to discard, or {@link #NO_DISCARD}
      * @return The discarded unit, or null if none
      */
-    public Unit processYield(String[] arguments) {
-        Unit discardedUnit = null;
-        boolean hasMaximumCards = this.hand.size() == FULL_HAND_SIZE;
-        if (hasMaximumCards && arguments.length == 0) {
+    public Unit processYield(int discardIndex) {
+        requireValidYield(discardIndex != NO_DISCARD);
+        return discardIndex == NO_DISCARD ? null : discardFromHand(discardIndex);
+    }
+
+    private Unit discardFromHand(int index) {
+        if (index < 0 || index >= this.handSize) {
+            throw new IllegalArgumentException(StringConstants.ERROR_INVALID_INDEX);
+        }
+        return this.catalog.getUnit(removeFromHand(index));
+    }
+
+    private int removeFromHand(int index) {
+        int removedId = this.hand[index];
+        this.handSize--;
+        System.arraycopy(this.hand, index + 1, this.hand, index, this.handSize - index);
+        this.handKey -= this.catalog.getHandKey(this.type, removedId);
+        return removedId;
+    }
+
+    private void addToHand(int id) {
+        if (this.handSize == this.hand.length) {
+            this.hand = Arrays.copyOf(this.hand, this.handSize * 2);
+        }
+        this.hand[this.handSize] = id;
+        this.handSize++;
+        this.handKey += this.catalog.getHandKey(this.type, id);
+    }
+
+    /**
+     * Checks whether the player may yield with or without discarding a card.
+     *
+     * @param hasDiscard True if a card should be discarded
+     * @throws IllegalStateException If the hand size requires the opposite
+     */
+    public void requireValidYield(boolean hasDiscard) {
+        boolean hasMaximumCards = this.handSize == FULL_HAND_SIZE;
+        if (hasMaximumCards && !hasDiscard) {
             throw new IllegalStateException(StringConstants.ERROR_MUST_DISCARD);
-        } else if (!hasMaximumCards && arguments.length > 0) {
+        } else if (!hasMaximumCards && hasDiscard) {
             throw new IllegalStateException(StringConstants.ERROR_CANNOT_DISCARD);
-        } else if (arguments.length > 0) {
-            int index = Integer.parseInt(arguments[0]) - 1;
-            if (index < 0 || index >= this.hand.size()) {
-                throw new IllegalArgumentException(StringConstants.ERROR_INVALID_INDEX);
-            }
-            discardedUnit = this.hand.remove(index);
         }
-        return discardedUnit;
     }
 
     /**
@@ -121,34 +218,36 @@ public class Player {
      *
      * @param indices     The indices of the units to place
      * @param targetOwner The owner of the target field
-     * @return The list of units to place
+     * @return The catalog IDs of the units to place, in the given order
      */
-    public List<Unit> preparePlacement(List<Integer> indices, PlayerType targetOwner) {
+    public int[] preparePlacement(List<Integer> indices, PlayerType targetOwner) {
         if (this.placedThisTurn) {
             throw new IllegalStateException(StringConstants.ERROR_ALREADY_PLACED);
         }
         if (targetOwner != null && targetOwner != this.type) {
             throw new IllegalStateException(StringConstants.ERROR_OCCUPIED_BY_ENEMY);
         }
+        long indexMask = 0;
         for (int index : indices) {
-            if (index < 0 || index >= this.hand.size()) {
+            if (index < 0 || index >= this.handSize) {
                 throw new IllegalArgumentException(StringConstants.ERROR_INVALID_INDEX);
             }
+            indexMask |= 1L << index;
         }
 
-        List<Unit> pulledUnits = new ArrayList<>();
-        for (int index : indices) {
-            pulledUnits.add(this.hand.get(index));
+        int[] pulledIds = new int[indices.size()];
+        for (int position = 0; position < pulledIds.length; position++) {
+            pulledIds[position] = this.hand[indices.get(position)];
         }
 
-        List<Integer> sortedIndices = new ArrayList<>(indices);
-        sortedIndices.sort(Collections.reverseOrder());
-        for (int index : sortedIndices) {
-            this.hand.remove(index);
+        for (int index = this.handSize - 1; index >= 0; index--) {
+            if ((indexMask & 1L << index) != 0) {
+                removeFromHand(index);
+            }
         }
 
-        this.placedThisTurn = true;
-        return pulledUnits;
+        setPlacedThisTurn(true);
+        return pulledIds;
     }
 
     /**
@@ -158,11 +257,11 @@ public class Player {
      * @return The chosen index
      */
     public int pickUnitToPlace(Random randomGenerator) {
-        List<Integer> weights = new ArrayList<>();
-        for (Unit unitObject : this.hand) {
-            weights.add(unitObject.attack());
+        int[] weights = new int[this.handSize];
+        for (int index = 0; index < weights.length; index++) {
+            weights[index] = this.catalog.getUnit(this.hand[index]).attack();
         }
-        return RandomUtils.weightedRandom(weights, randomGenerator);
+        return RandomUtils.weightedRandom(weights, weights.length, randomGenerator);
     }
 
     /**
@@ -172,11 +271,12 @@ public class Player {
      * @return The chosen index
      */
     public int pickUnitToDiscard(Random randomGenerator) {
-        List<Integer> weights = new ArrayList<>();
-        for (Unit unitObject : this.hand) {
-            weights.add(unitObject.attack() + unitObject.defense());
+        int[] weights = new int[this.handSize];
+        for (int index = 0; index < weights.length; index++) {
+            Unit unitObject = this.catalog.getUnit(this.hand[index]);
+            weights[index] = unitObject.attack() + unitObject.defense();
         }
-        return RandomUtils.reverseWeightedRandom(weights, randomGenerator);
+        return RandomUtils.reverseWeightedRandom(weights, weights.length, randomGenerator);
     }
 
     /**
@@ -194,13 +294,12 @@ public class Player {
      * @return True if successful
      */
     public boolean drawCard() {
-        boolean isSuccessful = false;
-        Optional<Unit> drawnUnit = this.deck.drawTopUnit();
-        if (drawnUnit.isPresent()) {
-            this.hand.add(drawnUnit.get());
-            isSuccessful = true;
+        int drawnId = this.deck.drawTopCard();
+        if (drawnId == Deck.NO_CARD) {
+            return false;
         }
-        return isSuccessful;
+        addToHand(drawnId);
+        return true;
     }
 
     /**
@@ -225,11 +324,70 @@ public class Player {
         this.boardCount--;
     }
 
+    /**
+     * Gets the current life points.
+     * @return The life points
+     */
+    public int getLifePoints() { return this.lifePoints; }
+
+    /**
+     * Gets the amount of cards left in the deck.
+     * @return The deck size
+     */
+    public int getDeckSize() { return this.deck.size(); }
+
+    /**
+     * Checks whether the player has already placed units this turn.
+     * @return True if placed
+     */
+    public boolean hasPlacedThisTurn() { return this.placedThisTurn; }
+
     /**
      * Sets whether the player has placed units this turn.
      * @param hasPlaced True if placed
      */
-    public void setPlacedThisTurn(boolean hasPlaced) { this.placedThisTurn = hasPlaced; }
+    public void setPlacedThisTurn(boolean hasPlaced) {
+        if (this.placedThisTurn != hasPlaced) {
+            this.stateKey ^= Zobrist.placedKey(this.type);
+        }
+        this.placedThisTurn = hasPlaced;
+    }
+
+    /**
+     * Restores a previously captured state, e.g. to undo an action. A card drawn since the
+     * capture is the last one in the hand and is put back on top of the deck.
+     *
+     * @param handIds    The catalog IDs of the captured hand
+     * @param handSize   The number of valid entries in {@code handIds}
+     * @param deckSize   The captured deck size
+     * @param lifePoints The captured life points
+     * @param boardCount The captured board count
+     * @param hasPlaced  The captured placement flag
+     */
+    public void restoreState(int[] handIds, int handSize, int deckSize, int lifePoints, int boardCount, boolean hasPlaced) {
+        while (this.deck.size() < deckSize && this.handSize > 0) {
+            this.handSize--;
+            this.deck.returnToTop(this.hand[this.handSize]);
+        }
+        this.handSize = 0;
+        this.handKey = 0;
+        for (int index = 0; index < handSize; index++) {
+            addToHand(handIds[index]);
+        }
+        this.stateKey ^= Zobrist.lifeKey(this.type, this.lifePoints) ^ Zobrist.lifeKey(this.type, lifePoints);
+        this.lifePoints = lifePoints;
+        this.boardCount = boardCount;
+        setPlacedThisTurn(hasPlaced);
+    }
+
+    /**
+     * Gets the Zobrist key of this player's hand contents, life points, deck size and placement flag.
+     * The order of the hand does not change the key.
+     * @return The key
+     */
+    public long getZobristKey() {
+        return this.handKey ^ this.stateKey ^ Zobrist.deckKey(this.type, this.deck.size());
+    }
 
     /**
      * Formats the current state of the player.
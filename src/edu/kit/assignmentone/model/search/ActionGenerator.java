@@ -0,0 +1,191 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.action.Action;
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.BlockAction;
+import edu.kit.assignmentone.model.action.FlipAction;
+import edu.kit.assignmentone.model.action.MoveAction;
+import edu.kit.assignmentone.model.action.PlaceAction;
+import edu.kit.assignmentone.model.action.YieldAction;
+import edu.kit.assignmentone.model.board.Board;
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.Player;
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.units.Unit;
+
+import java.util.List;
+
+/**
+ * Generates the legal actions of the active player for the search engines.
+ * Kings only step onto empty fields and units are only placed next to their own king,
+ * which keeps the branching factor small without dropping sensible moves. Besides single units,
+ * the best union of several hand units found by the {@link PlacementSolver} is offered per field.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+final class ActionGenerator {
+
+    private ActionGenerator() { }
+
+    /**
+     * Adds all legal actions of the active player to the given list.
+     *
+     * @param game             The game state
+     * @param allowPlacement   True if placements should be generated
+     * @param actions          The list receiving the actions
+     */
+    static void generate(Game game, boolean allowPlacement, List<Action> actions) {
+        Board board = game.getBoard();
+        PlayerType activeType = game.getActivePlayer();
+        long ownMask = board.getOccupancy(activeType);
+        long enemyMask = board.getOccupancy(activeType.next());
+        long occupiedMask = ownMask | enemyMask;
+        long unmovedMask = ownMask & ~board.getMovedMask();
+        long kingMask = ownMask & board.getKingMask();
+
+        if ((kingMask & unmovedMask) != 0) {
+            int kingCell = Long.numberOfTrailingZeros(kingMask);
+            addMoves(board, kingCell, Board.neighbourMask(kingCell, false) & ~occupiedMask, actions);
+        }
+        if (allowPlacement && kingMask != 0) {
+            addPlacements(game, Long.numberOfTrailingZeros(kingMask), occupiedMask, actions);
+        }
+
+        long remainingMask = unmovedMask & ~kingMask;
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            long targetMask = Board.neighbourMask(cellIndex, false) & ~(ownMask & board.getKingMask());
+            addMoves(board, cellIndex, targetMask, actions);
+            actions.add(new BlockAction(Board.cellPosition(cellIndex)));
+        }
+        actions.add(createYield(game.getActivePlayerObject()));
+    }
+
+    /**
+     * Adds all duels the active player can start with units that have not moved yet.
+     *
+     * @param game    The game state
+     * @param actions The list receiving the actions
+     */
+    static void generateDuels(Game game, List<Action> actions) {
+        Board board = game.getBoard();
+        PlayerType activeType = game.getActivePlayer();
+        long ownMask = board.getOccupancy(activeType);
+        long enemyMask = board.getOccupancy(activeType.next());
+
+        long remainingMask = ownMask & ~board.getMovedMask() & ~board.getKingMask();
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            addMoves(board, cellIndex, Board.neighbourMask(cellIndex, false) & enemyMask, actions);
+        }
+    }
+
+    /**
+     * Creates the yield action, discarding the weakest unit if the hand is full.
+     *
+     * @param player The active player
+     * @return The yield action
+     */
+    static YieldAction createYield(Player player) {
+        int discardIndex = Player.NO_DISCARD;
+        if (player.isHandFull()) {
+            discardIndex = 0;
+            for (int index = 1; index < player.getHandSize(); index++) {
+                if (strength(player.getHandUnit(index)) < strength(player.getHandUnit(discardIndex))) {
+                    discardIndex = index;
+                }
+            }
+        }
+        return new YieldAction(discardIndex);
+    }
+
+    private static boolean isFirstCopy(Player player, int handIndex) {
+        int id = player.getHandId(handIndex);
+        for (int index = 0; index < handIndex; index++) {
+            if (player.getHandId(index) == id) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int strength(Unit unit) {
+        return unit.attack() + unit.defense();
+    }
+
+    private static void addMoves(Board board, int sourceCell, long targetMask, List<Action> actions) {
+        long remainingMask = targetMask;
+        while (remainingMask != 0) {
+            int targetCell = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            actions.add(new MoveAction(Board.cellPosition(sourceCell), Board.cellPosition(targetCell)));
+        }
+    }
+
+    private static void addPlacements(Game game, int kingCell, long occupiedMask, List<Action> actions) {
+        Player player = game.getActivePlayerObject();
+        if (player.hasPlacedThisTurn() || player.getBoardCount() >= Player.MAXIMUM_BOARD_CAPACITY) {
+            return;
+        }
+        int handSize = player.getHandSize();
+        PlacementPlan unionPlan = PlacementSolver.solve(player, null, game.getBoard().getUnionTable());
+        boolean hasUnionPlan = unionPlan.handIndices().size() > 1;
+        long remainingMask = Board.neighbourMask(kingCell, true) & ~occupiedMask;
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            for (int handIndex = 0; handIndex < handSize; handIndex++) {
+                if (isFirstCopy(player, handIndex)) {
+                    actions.add(new PlaceAction(Board.cellPosition(cellIndex), List.of(handIndex)));
+                }
+            }
+            if (hasUnionPlan) {
+                actions.add(new PlaceAction(Board.cellPosition(cellIndex), unionPlan.handIndices()));
+            }
+        }
+    }
+
+    /**
+     * Checks whether an action can be executed in the given state without breaking a rule.
+     *
+     * @param game   The game state
+     * @param action The action
+     * @return True if the action is legal for the active player
+     */
+    static boolean isApplicable(Game game, Action action) {
+        Board board = game.getBoard();
+        PlayerType activeType = game.getActivePlayer();
+        boolean ownsUnit = switch (action) {
+            case MoveAction moveAction -> ownsUnitAt(board, moveAction.source(), activeType);
+            case BlockAction blockAction -> ownsUnitAt(board, blockAction.position(), activeType);
+            case FlipAction flipAction -> ownsUnitAt(board, flipAction.position(), activeType);
+            case PlaceAction ignored -> true;
+            case YieldAction ignored -> true;
+        };
+        return ownsUnit && ActionExecutor.isLegal(game, action);
+    }
+
+    private static boolean ownsUnitAt(Board board, Position position, PlayerType owner) {
+        return board.getUnitAt(position).filter(unit -> unit.getOwner() == owner).isPresent();
+    }
+
+    /**
+     * Checks whether an action starts a duel or a union.
+     *
+     * @param game   The game state before the action
+     * @param action The action
+     * @return The unit on the target field, or null if the action does not meet another unit
+     */
+    static PlacedUnit targetUnit(Game game, Action action) {
+        PlacedUnit targetUnit = null;
+        if (action instanceof MoveAction moveAction && !moveAction.source().equals(moveAction.target())) {
+            targetUnit = game.getBoard().getUnitAt(moveAction.target()).orElse(null);
+        }
+        return targetUnit;
+    }
+}
@@ -0,0 +1,420 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.AIStrategy;
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.UndoRecord;
+import edu.kit.assignmentone.model.action.Action;
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.BlockAction;
+import edu.kit.assignmentone.model.action.FlipAction;
+import edu.kit.assignmentone.model.action.MoveAction;
+import edu.kit.assignmentone.model.action.PlaceAction;
+import edu.kit.assignmentone.model.action.YieldAction;
+import edu.kit.assignmentone.model.board.Board;
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.units.UnionTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Plays turns with an iterative-deepening alpha-beta search over single actions.
+ * A turn consists of several actions of the same player, so the score is only negated
+ * when a yield hands the turn over. Duels and unions are searched first, followed by
+ * the best action of a transposition table hit, killer and history moves, and pending duels
+ * are resolved in a quiescence search. The search is limited by a node budget instead of
+ * a clock, which keeps it deterministic. Actions are applied to a single copy of the game
+ * and undone afterwards, reusing one undo record per ply.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class AlphaBetaEngine implements AIStrategy {
+
+    private static final int DEFAULT_MAXIMUM_DEPTH = 8;
+    private static final long DEFAULT_NODE_BUDGET = 40_000;
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+    private static final int WIN_SCORE = 1_000_000;
+    private static final int MAXIMUM_PLY = 128;
+    private static final int KILLER_SLOTS = 2;
+    private static final int MAXIMUM_HAND_SIZE = 5;
+    private static final int HISTORY_BLOCK_OFFSET = Position.CELL_COUNT * Position.CELL_COUNT;
+    private static final int HISTORY_PLACE_OFFSET = HISTORY_BLOCK_OFFSET + Position.CELL_COUNT;
+    private static final int HISTORY_YIELD_INDEX = HISTORY_PLACE_OFFSET + Position.CELL_COUNT * MAXIMUM_HAND_SIZE;
+    private static final int ORDER_PREFERRED = Integer.MAX_VALUE;
+    private static final int ORDER_DUEL = 3_000_000;
+    private static final int ORDER_UNION = 2_000_000;
+    private static final int ORDER_KILLER = 1_000_000;
+    private static final int ATTACKER_DIVISOR = 100;
+    private static final int UNIT_VALUE_DIVISOR = 2;
+    private static final int THREAT_DIVISOR = 2;
+    private static final int DISTANCE_WEIGHT = 40;
+    private static final int DEFAULT_TABLE_BITS = 18;
+    private static final long OPPONENT_TURN_KEY = 0x2545F4914F6CDD1DL;
+
+    private final int maximumDepth;
+    private final long nodeBudget;
+    private final Random searchRandom;
+    private final Action[][] killerActions;
+    private final int[] historyScores;
+    private final TranspositionTable table;
+    private final UndoRecord[] undoRecords;
+    private long decisionNodes;
+    private long totalNodes;
+    private long totalNanos;
+
+    /**
+     * Creates a new engine with the default depth and node budget.
+     */
+    public AlphaBetaEngine() {
+        this(DEFAULT_MAXIMUM_DEPTH, DEFAULT_NODE_BUDGET);
+    }
+
+    /**
+     * Creates a new engine.
+     *
+     * @param maximumDepth The maximum iterative-deepening depth in actions
+     * @param nodeBudget   The maximum number of nodes per decision
+     */
+    public AlphaBetaEngine(int maximumDepth, long nodeBudget) {
+        this(maximumDepth, nodeBudget, new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    /**
+     * Creates a new engine that uses the given transposition table, which may be shared with other engines.
+     *
+     * @param maximumDepth The maximum iterative-deepening depth in actions
+     * @param nodeBudget   The maximum number of nodes per decision
+     * @param table        The transposition table
+     */
+    public AlphaBetaEngine(int maximumDepth, long nodeBudget, TranspositionTable table) {
+        this.table = table;
+        this.maximumDepth = maximumDepth;
+        this.nodeBudget = nodeBudget;
+        // Search copies never draw cards at random, the generator only satisfies the copy contract
+        this.searchRandom = new Random(0);
+        this.killerActions = new Action[MAXIMUM_PLY][KILLER_SLOTS];
+        this.historyScores = new int[HISTORY_YIELD_INDEX + 1];
+        this.undoRecords = new UndoRecord[MAXIMUM_PLY + 1];
+        for (int ply = 0; ply < this.undoRecords.length; ply++) {
+            this.undoRecords[ply] = new UndoRecord();
+        }
+    }
+
+    @Override
+    public void playTurn(Game game) {
+        PlayerType activeType = game.getActivePlayer();
+        while (game.isRunning() && game.getActivePlayer() == activeType) {
+            Action action = findBestAction(game);
+            if (!(action instanceof YieldAction) && !ActionExecutor.tryPerform(game, action)) {
+                action = ActionGenerator.createYield(game.getActivePlayerObject());
+            }
+            if (action instanceof YieldAction && !ActionExecutor.tryPerform(game, action)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the accumulated search statistics of all decisions so far.
+     *
+     * @return The statistics
+     */
+    @Override
+    public SearchStatistics getStatistics() {
+        return new SearchStatistics(this.totalNodes, this.totalNanos);
+    }
+
+    /**
+     * Clears the transposition table, which may be shared with other engines, and the move ordering heuristics.
+     */
+    @Override
+    public void reset() {
+        this.table.clear();
+        Arrays.fill(this.historyScores, 0);
+        this.totalNodes = 0;
+        this.totalNanos = 0;
+    }
+
+    /**
+     * Searches the best next action of the active player.
+     *
+     * @param game The game instance, which is not modified
+     * @return The best action found
+     */
+    public Action findBestAction(Game game) {
+        long startNanos = System.nanoTime();
+        this.decisionNodes = 0;
+        prepareHeuristics();
+
+        Game root = game.copy(this.searchRandom);
+        List<Action> rootActions = new ArrayList<>();
+        ActionGenerator.generate(root, true, rootActions);
+        Action bestAction = rootActions.getLast();
+
+        for (int depth = 1; depth <= this.maximumDepth; depth++) {
+            orderActions(root, rootActions, bestAction, 0);
+            int alpha = -INFINITY;
+            Action iterationBest = bestAction;
+            for (Action action : rootActions) {
+                int score = searchChild(root, action, depth - 1, alpha, INFINITY, 1, true);
+                if (isBudgetExhausted()) {
+                    break;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    iterationBest = action;
+                }
+            }
+            if (isBudgetExhausted()) {
+                break;
+            }
+            bestAction = iterationBest;
+            if (Math.abs(alpha) >= WIN_SCORE - MAXIMUM_PLY) {
+                break;
+            }
+        }
+
+        this.totalNodes += this.decisionNodes;
+        this.totalNanos += System.nanoTime() - startNanos;
+        return bestAction;
+    }
+
+    private void prepareHeuristics() {
+        for (Action[] killers : this.killerActions) {
+            killers[0] = null;
+            killers[1] = null;
+        }
+        for (int index = 0; index < this.historyScores.length; index++) {
+            this.historyScores[index] /= 2;
+        }
+    }
+
+    private boolean isBudgetExhausted() {
+        return this.decisionNodes >= this.nodeBudget;
+    }
+
+    private int searchChild(Game node, Action action, int depth, int alpha, int beta, int ply, boolean rootTurn) {
+        UndoRecord record = this.undoRecords[ply];
+        node.apply(action, record);
+        int score = action instanceof YieldAction
+                ? -search(node, depth, -beta, -alpha, ply, false)
+                : search(node, depth, alpha, beta, ply, rootTurn);
+        node.undo(record);
+        return score;
+    }
+
+    private int search(Game node, int depth, int alpha, int beta, int ply, boolean rootTurn) {
+        this.decisionNodes++;
+        if (!node.isRunning()) {
+            return terminalScore(node, ply);
+        }
+        if (depth <= 0 || ply >= MAXIMUM_PLY - 1) {
+            return quiescence(node, alpha, beta, ply);
+        }
+        if (isBudgetExhausted()) {
+            return 0;
+        }
+
+        long key = node.getZobristKey() ^ (rootTurn ? 0 : OPPONENT_TURN_KEY);
+        int searchAlpha = alpha;
+        int searchBeta = beta;
+        int tableActionIndex = TranspositionTable.NO_ACTION;
+        Optional<TableEntry> entryOptional = this.table.probe(key);
+        if (entryOptional.isPresent()) {
+            TableEntry entry = entryOptional.get();
+            int storedScore = fromTableScore(entry.score(), ply);
+            if (entry.depth() >= depth) {
+                switch (entry.bound()) {
+                    case EXACT -> searchAlpha = searchBeta = storedScore;
+                    case LOWER -> searchAlpha = Math.max(searchAlpha, storedScore);
+                    case UPPER -> searchBeta = Math.min(searchBeta, storedScore);
+                }
+                if (searchAlpha >= searchBeta) {
+                    return storedScore;
+                }
+            }
+            tableActionIndex = entry.bestActionIndex();
+        }
+
+        List<Action> actions = new ArrayList<>();
+        ActionGenerator.generate(node, rootTurn, actions);
+        Action tableAction = tableActionIndex >= 0 && tableActionIndex < actions.size() ? actions.get(tableActionIndex) : null;
+        List<Action> orderedActions = new ArrayList<>(actions);
+        orderActions(node, orderedActions, tableAction, ply);
+
+        int currentAlpha = searchAlpha;
+        int bestScore = -INFINITY;
+        Action bestAction = null;
+        for (Action action : orderedActions) {
+            int score = searchChild(node, action, depth - 1, currentAlpha, searchBeta, ply + 1, rootTurn);
+            if (score > bestScore) {
+                bestScore = score;
+                bestAction = action;
+            }
+            currentAlpha = Math.max(currentAlpha, score);
+            if (currentAlpha >= searchBeta) {
+                if (ActionGenerator.targetUnit(node, action) == null) {
+                    rememberCutoff(action, depth, ply);
+                }
+                break;
+            }
+        }
+
+        if (!isBudgetExhausted()) {
+            ScoreBound bound = bestScore <= searchAlpha ? ScoreBound.UPPER : bestScore >= searchBeta ? ScoreBound.LOWER : ScoreBound.EXACT;
+            this.table.store(key, toTableScore(bestScore, ply), depth, bound, actions.indexOf(bestAction));
+        }
+        return bestScore;
+    }
+
+    private static int toTableScore(int score, int ply) {
+        if (score >= WIN_SCORE - MAXIMUM_PLY) {
+            return score + ply;
+        }
+        return score <= MAXIMUM_PLY - WIN_SCORE ? score - ply : score;
+    }
+
+    private static int fromTableScore(int score, int ply) {
+        if (score >= WIN_SCORE - MAXIMUM_PLY) {
+            return score - ply;
+        }
+        return score <= MAXIMUM_PLY - WIN_SCORE ? score + ply : score;
+    }
+
+    private int quiescence(Game node, int alpha, int beta, int ply) {
+        this.decisionNodes++;
+        if (!node.isRunning()) {
+            return terminalScore(node, ply);
+        }
+        int standPat = evaluate(node);
+        if (standPat >= beta || ply >= MAXIMUM_PLY - 1 || isBudgetExhausted()) {
+            return standPat;
+        }
+
+        List<Action> duels = new ArrayList<>();
+        ActionGenerator.generateDuels(node, duels);
+        orderActions(node, duels, null, ply);
+
+        int currentAlpha = Math.max(alpha, standPat);
+        int bestScore = standPat;
+        for (Action action : duels) {
+            UndoRecord record = this.undoRecords[ply + 1];
+            node.apply(action, record);
+            int score = quiescence(node, currentAlpha, beta, ply + 1);
+            node.undo(record);
+            bestScore = Math.max(bestScore, score);
+            currentAlpha = Math.max(currentAlpha, score);
+            if (currentAlpha >= beta) {
+                break;
+            }
+        }
+        return bestScore;
+    }
+
+    private static int terminalScore(Game node, int ply) {
+        int score = 0;
+        if (node.getWinner() != null) {
+            score = node.getWinner() == node.getActivePlayer() ? WIN_SCORE - ply : ply - WIN_SCORE;
+        }
+        return score;
+    }
+
+    private static int evaluate(Game node) {
+        Board board = node.getBoard();
+        PlayerType activeType = node.getActivePlayer();
+        PlayerType otherType = activeType.next();
+        int score = node.getPlayer(activeType).getLifePoints() - node.getPlayer(otherType).getLifePoints();
+        return score + evaluateUnits(board, activeType) - evaluateUnits(board, otherType);
+    }
+
+    private static int evaluateUnits(Board board, PlayerType owner) {
+        long enemyKingMask = board.getOccupancy(owner.next()) & board.getKingMask();
+        int enemyKingCell = enemyKingMask == 0 ? -1 : Long.numberOfTrailingZeros(enemyKingMask);
+        long threatMask = enemyKingCell < 0 ? 0 : Board.neighbourMask(enemyKingCell, false);
+
+        int value = 0;
+        long remainingMask = board.getOccupancy(owner) & ~board.getKingMask();
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            PlacedUnit unit = board.getUnitAtCell(cellIndex);
+            value += (unit.getAttack() + unit.getDefense()) / UNIT_VALUE_DIVISOR;
+            if (enemyKingCell >= 0) {
+                value -= DISTANCE_WEIGHT * Position.distance(cellIndex, enemyKingCell);
+                if ((threatMask & (1L << cellIndex)) != 0) {
+                    value += unit.getAttack() / THREAT_DIVISOR;
+                }
+            }
+        }
+        return value;
+    }
+
+    private void orderActions(Game node, List<Action> actions, Action preferredAction, int ply) {
+        int[] scores = new int[actions.size()];
+        for (int index = 0; index < scores.length; index++) {
+            scores[index] = orderScore(node, actions.get(index), preferredAction, ply);
+        }
+        for (int index = 1; index < scores.length; index++) {
+            int score = scores[index];
+            Action action = actions.get(index);
+            int position = index - 1;
+            while (position >= 0 && scores[position] < score) {
+                scores[position + 1] = scores[position];
+                actions.set(position + 1, actions.get(position));
+                position--;
+            }
+            scores[position + 1] = score;
+            actions.set(position + 1, action);
+        }
+    }
+
+    private int orderScore(Game node, Action action, Action preferredAction, int ply) {
+        if (action.equals(preferredAction)) {
+            return ORDER_PREFERRED;
+        }
+        PlacedUnit targetUnit = ActionGenerator.targetUnit(node, action);
+        if (targetUnit != null && action instanceof MoveAction moveAction) {
+            PlacedUnit movingUnit = node.getBoard().getUnitAt(moveAction.source()).orElseThrow();
+            if (movingUnit.getOwner() != targetUnit.getOwner()) {
+                int victimValue = targetUnit.isKing() ? movingUnit.getAttack() : targetUnit.getAttack() + targetUnit.getDefense();
+                return ORDER_DUEL + victimValue - movingUnit.getAttack() / ATTACKER_DIVISOR;
+            }
+            long outcome = movingUnit.lookUpUnion(targetUnit, node.getBoard().getUnionTable());
+            if (outcome != UnionTable.NO_UNION) {
+                return ORDER_UNION + UnionTable.getStrength(outcome) - targetUnit.getAttack() - targetUnit.getDefense();
+            }
+        }
+        for (int slot = 0; slot < KILLER_SLOTS; slot++) {
+            if (action.equals(this.killerActions[ply][slot])) {
+                return ORDER_KILLER - slot;
+            }
+        }
+        return this.historyScores[historyIndex(action)];
+    }
+
+    private void rememberCutoff(Action action, int depth, int ply) {
+        if (!action.equals(this.killerActions[ply][0])) {
+            this.killerActions[ply][1] = this.killerActions[ply][0];
+            this.killerActions[ply][0] = action;
+        }
+        int historyIndex = historyIndex(action);
+        this.historyScores[historyIndex] = Math.min(ORDER_KILLER - KILLER_SLOTS, this.historyScores[historyIndex] + depth * depth);
+    }
+
+    private static int historyIndex(Action action) {
+        return switch (action) {
+            case MoveAction moveAction -> Board.cellIndex(moveAction.source()) * Position.CELL_COUNT + Board.cellIndex(moveAction.target());
+            case BlockAction blockAction -> HISTORY_BLOCK_OFFSET + Board.cellIndex(blockAction.position());
+            case FlipAction flipAction -> HISTORY_BLOCK_OFFSET + Board.cellIndex(flipAction.position());
+            case PlaceAction placeAction -> HISTORY_PLACE_OFFSET
+                    + Board.cellIndex(placeAction.target()) * MAXIMUM_HAND_SIZE + placeAction.handIndices().getFirst();
+            case YieldAction ignored -> HISTORY_YIELD_INDEX;
+        };
+    }
+}
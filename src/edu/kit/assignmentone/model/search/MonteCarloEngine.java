@@ -0,0 +1,257 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.AIStrategy;
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.Zobrist;
+import edu.kit.assignmentone.model.action.Action;
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.YieldAction;
+import edu.kit.assignmentone.model.board.Board;
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.player.Player;
+import edu.kit.assignmentone.model.player.PlayerType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plays turns with a root-parallel Monte Carlo tree search. A fixed number of independent
+ * trees is searched on a fork-join pool shared by all engines, each on its own copy of the game in which the
+ * cards the engine cannot know are reshuffled. The visit counts of the root children are
+ * merged at the end. Trees are kept between decisions and re-rooted at the node matching
+ * the current public state, so the opponent's turn is reused whenever it was explored.
+ * The tree count does not depend on the number of cores, which keeps the engine deterministic.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class MonteCarloEngine implements AIStrategy {
+
+    private static final int DEFAULT_TREE_COUNT = 16;
+    private static final int DEFAULT_ITERATIONS_PER_TREE = 48;
+    private static final int ROLLOUT_TURN_LIMIT = 6;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int MAXIMUM_REUSE_SCAN = 20_000;
+    private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final long HASH_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+    private static final int HASH_SHIFT = 31;
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final int treeCount;
+    private final int iterationsPerTree;
+    private final MonteCarloNode[] roots;
+    private long decisionCount;
+    private long totalRollouts;
+    private long totalNanos;
+
+    /**
+     * Creates a new engine with the default tree count and iteration budget.
+     */
+    public MonteCarloEngine() {
+        this(DEFAULT_TREE_COUNT, DEFAULT_ITERATIONS_PER_TREE);
+    }
+
+    /**
+     * Creates a new engine.
+     *
+     * @param treeCount         The number of independent trees
+     * @param iterationsPerTree The number of rollouts per tree and decision
+     */
+    public MonteCarloEngine(int treeCount, int iterationsPerTree) {
+        this.treeCount = treeCount;
+        this.iterationsPerTree = iterationsPerTree;
+        this.roots = new MonteCarloNode[treeCount];
+    }
+
+    @Override
+    public void playTurn(Game game) {
+        PlayerType activeType = game.getActivePlayer();
+        while (game.isRunning() && game.getActivePlayer() == activeType) {
+            Action action = findBestAction(game);
+            if (!(action instanceof YieldAction) && !ActionExecutor.tryPerform(game, action)) {
+                action = ActionGenerator.createYield(game.getActivePlayerObject());
+            }
+            if (action instanceof YieldAction && !ActionExecutor.tryPerform(game, action)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the accumulated statistics of all decisions so far, counting one node per rollout.
+     *
+     * @return The statistics
+     */
+    @Override
+    public SearchStatistics getStatistics() {
+        return new SearchStatistics(this.totalRollouts, this.totalNanos);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(this.roots, null);
+        this.decisionCount = 0;
+        this.totalRollouts = 0;
+        this.totalNanos = 0;
+    }
+
+    /**
+     * Searches the best next action of the active player.
+     *
+     * @param game The game instance, which is not modified
+     * @return The most visited action over all trees
+     */
+    public Action findBestAction(Game game) {
+        long startNanos = System.nanoTime();
+        PlayerType perspective = game.getActivePlayer();
+        long stateKey = publicKey(game, perspective);
+
+        List<Callable<MonteCarloNode>> tasks = new ArrayList<>();
+        for (int treeIndex = 0; treeIndex < this.treeCount; treeIndex++) {
+            MonteCarloNode root = findReusableRoot(this.roots[treeIndex], stateKey);
+            Random randomGenerator = new Random((this.decisionCount * this.treeCount + treeIndex) * SEED_MULTIPLIER);
+            tasks.add(() -> searchTree(game, root, perspective, randomGenerator));
+        }
+        this.decisionCount++;
+
+        Map<Action, Integer> visitCounts = new LinkedHashMap<>();
+        try {
+            List<Future<MonteCarloNode>> results = SEARCH_POOL.invokeAll(tasks);
+            for (int treeIndex = 0; treeIndex < this.treeCount; treeIndex++) {
+                MonteCarloNode root = results.get(treeIndex).get();
+                this.roots[treeIndex] = root;
+                for (MonteCarloNode child : root.getChildren()) {
+                    visitCounts.merge(child.getAction(), child.getVisits(), Integer::sum);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        }
+
+        Action bestAction = ActionGenerator.createYield(game.getActivePlayerObject());
+        int bestVisits = -1;
+        for (Map.Entry<Action, Integer> entry : visitCounts.entrySet()) {
+            if (entry.getValue() > bestVisits && ActionGenerator.isApplicable(game, entry.getKey())) {
+                bestVisits = entry.getValue();
+                bestAction = entry.getKey();
+            }
+        }
+
+        this.totalRollouts += (long) this.treeCount * this.iterationsPerTree;
+        this.totalNanos += System.nanoTime() - startNanos;
+        return bestAction;
+    }
+
+    private MonteCarloNode searchTree(Game game, MonteCarloNode reusedRoot, PlayerType perspective, Random randomGenerator) {
+        Game rootState = game.copy(randomGenerator);
+        rootState.getPlayer(perspective).shuffleUnknownCards(false, randomGenerator);
+        rootState.getPlayer(perspective.next()).shuffleUnknownCards(true, randomGenerator);
+
+        MonteCarloNode root = reusedRoot != null ? reusedRoot : new MonteCarloNode(null, null, publicKey(game, perspective));
+        for (int iteration = 0; iteration < this.iterationsPerTree; iteration++) {
+            runIteration(rootState.copy(randomGenerator), root, perspective, randomGenerator);
+        }
+        return root;
+    }
+
+    private static void runIteration(Game state, MonteCarloNode root, PlayerType perspective, Random randomGenerator) {
+        List<MonteCarloNode> path = new ArrayList<>();
+        MonteCarloNode node = root;
+        path.add(node);
+
+        boolean applicable = true;
+        while (applicable && state.isRunning() && node.isExpanded() && !node.hasUntriedActions() && !node.getChildren().isEmpty()) {
+            MonteCarloNode child = node.selectChild(EXPLORATION);
+            applicable = ActionGenerator.isApplicable(state, child.getAction());
+            if (applicable) {
+                ActionExecutor.execute(state, child.getAction());
+                node = child;
+                path.add(node);
+            }
+        }
+
+        if (applicable && state.isRunning()) {
+            if (!node.isExpanded()) {
+                List<Action> actions = new ArrayList<>();
+                ActionGenerator.generate(state, true, actions);
+                node.expand(actions);
+            }
+            if (node.hasUntriedActions()) {
+                Action action = node.takeUntriedAction(randomGenerator.nextInt(node.getUntriedCount()));
+                if (ActionGenerator.isApplicable(state, action)) {
+                    PlayerType mover = state.getActivePlayer();
+                    ActionExecutor.execute(state, action);
+                    MonteCarloNode child = new MonteCarloNode(action, mover, publicKey(state, perspective));
+                    node.addChild(child);
+                    path.add(child);
+                }
+            }
+        }
+
+        double playerReward = RolloutPolicy.playOut(state, ROLLOUT_TURN_LIMIT);
+        for (MonteCarloNode pathNode : path) {
+            pathNode.update(playerReward);
+        }
+    }
+
+    private static MonteCarloNode findReusableRoot(MonteCarloNode previousRoot, long stateKey) {
+        if (previousRoot == null) {
+            return null;
+        }
+        Deque<MonteCarloNode> queue = new ArrayDeque<>();
+        queue.add(previousRoot);
+        int scanned = 0;
+        while (!queue.isEmpty() && scanned++ < MAXIMUM_REUSE_SCAN) {
+            MonteCarloNode node = queue.poll();
+            if (node.getStateKey() == stateKey) {
+                return node;
+            }
+            queue.addAll(node.getChildren());
+        }
+        return null;
+    }
+
+    /**
+     * Hashes the state as seen by one player: hand contents, deck order and the identity
+     * of covered enemy units are left out, since they differ between the reshuffled copies.
+     * Known units are hashed by their Zobrist keys, which are the same in every run.
+     */
+    private static long publicKey(Game game, PlayerType perspective) {
+        Board board = game.getBoard();
+        long key = mix(game.getActivePlayer().ordinal());
+        long remainingMask = board.getOccupancy(PlayerType.PLAYER) | board.getOccupancy(PlayerType.ENEMY);
+        while (remainingMask != 0) {
+            int cellIndex = Long.numberOfTrailingZeros(remainingMask);
+            remainingMask &= remainingMask - 1;
+            PlacedUnit unit = board.getUnitAtCell(cellIndex);
+            int flags = (unit.getOwner().ordinal() << 3) | (unit.isFlipped() ? 4 : 0) | (unit.isBlocking() ? 2 : 0) | (unit.hasMoved() ? 1 : 0);
+            long unitKey = unit.isFlipped() || unit.getOwner() == perspective ? Zobrist.pieceKey(cellIndex, unit.getOwner(),
+                    unit.isFlipped(), unit.isBlocking(), unit.hasMoved(), unit.getUnit()) : 0;
+            key = mix(key ^ mix((long) cellIndex << 8 | flags) ^ unitKey);
+        }
+        for (PlayerType type : PlayerType.values()) {
+            Player player = game.getPlayer(type);
+            key = mix(key ^ player.getLifePoints());
+            key = mix(key ^ ((long) player.getHandSize() << 16 | (long) player.getDeckSize() << 8 | player.getBoardCount()));
+            key = mix(key ^ (player.hasPlacedThisTurn() ? 1 : 0));
+        }
+        return key;
+    }
+
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> HASH_SHIFT)) * HASH_MULTIPLIER;
+        return mixed ^ (mixed >>> HASH_SHIFT);
+    }
+}
@@ -0,0 +1,119 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.action.Action;
+import edu.kit.assignmentone.model.player.PlayerType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A node of a Monte Carlo search tree. The reward is stored from the point of view
+ * of the player who performed the action leading to this node.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+final class MonteCarloNode {
+
+    private final Action action;
+    private final PlayerType mover;
+    private final long stateKey;
+    private final List<MonteCarloNode> children;
+    private List<Action> untriedActions;
+    private int visits;
+    private double reward;
+
+    /**
+     * Creates a new node.
+     *
+     * @param action   The action leading to this node, or null for a root
+     * @param mover    The player who performed the action, or null for a root
+     * @param stateKey The public key of the state after the action
+     */
+    MonteCarloNode(Action action, PlayerType mover, long stateKey) {
+        this.action = action;
+        this.mover = mover;
+        this.stateKey = stateKey;
+        this.children = new ArrayList<>();
+    }
+
+    /** @return the action leading to this node */
+    Action getAction() { return this.action; }
+    /** @return the player who performed the action */
+    PlayerType getMover() { return this.mover; }
+    /** @return the public key of the state after the action */
+    long getStateKey() { return this.stateKey; }
+    /** @return the expanded children */
+    List<MonteCarloNode> getChildren() { return this.children; }
+    /** @return the visit count */
+    int getVisits() { return this.visits; }
+
+    /** @return true if the legal actions of this node have been generated */
+    boolean isExpanded() { return this.untriedActions != null; }
+
+    /** @return true if every legal action has a child node */
+    boolean hasUntriedActions() { return this.untriedActions != null && !this.untriedActions.isEmpty(); }
+
+    /**
+     * Stores the legal actions of this node.
+     *
+     * @param actions The legal actions
+     */
+    void expand(List<Action> actions) {
+        this.untriedActions = new ArrayList<>(actions);
+    }
+
+    /**
+     * Removes an untried action.
+     *
+     * @param index The index within the untried actions
+     * @return The removed action
+     */
+    Action takeUntriedAction(int index) {
+        return this.untriedActions.remove(index);
+    }
+
+    /** @return the number of untried actions */
+    int getUntriedCount() { return this.untriedActions.size(); }
+
+    /**
+     * Adds a child node.
+     *
+     * @param child The child
+     */
+    void addChild(MonteCarloNode child) {
+        this.children.add(child);
+    }
+
+    /**
+     * Records the result of a rollout.
+     *
+     * @param playerReward The reward from the point of view of {@link PlayerType#PLAYER}
+     */
+    void update(double playerReward) {
+        this.visits++;
+        if (this.mover != null) {
+            this.reward += this.mover == PlayerType.PLAYER ? playerReward : 1 - playerReward;
+        }
+    }
+
+    /**
+     * Selects the child with the highest upper confidence bound.
+     *
+     * @param exploration The exploration constant
+     * @return The selected child
+     */
+    MonteCarloNode selectChild(double exploration) {
+        MonteCarloNode bestChild = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(Math.max(1, this.visits));
+        for (MonteCarloNode child : this.children) {
+            double value = child.reward / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+            if (value > bestValue) {
+                bestValue = value;
+                bestChild = child;
+            }
+        }
+        return bestChild;
+    }
+}
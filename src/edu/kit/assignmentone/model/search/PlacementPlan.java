@@ -0,0 +1,36 @@
+package edu.kit.assignmentone.model.search;
+
+import java.util.List;
+
+/**
+ * The best order to place hand units on a field, together with the stats of the resulting unit.
+ *
+ * @param handIndices The zero-based hand indices in placement order, empty if no placement is worthwhile
+ * @param attack      The attack of the unit on the field afterwards
+ * @param defense     The defense of the unit on the field afterwards
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record PlacementPlan(List<Integer> handIndices, int attack, int defense) {
+
+    /**
+     * Creates a new plan with an immutable copy of the indices.
+     *
+     * @param handIndices The zero-based hand indices in placement order
+     * @param attack      The attack of the unit on the field afterwards
+     * @param defense     The defense of the unit on the field afterwards
+     */
+    public PlacementPlan {
+        handIndices = List.copyOf(handIndices);
+    }
+
+    /**
+     * Checks if the plan places any unit.
+     *
+     * @return True if at least one hand index is given
+     */
+    public boolean placesUnits() {
+        return !this.handIndices.isEmpty();
+    }
+}
@@ -0,0 +1,140 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.player.Player;
+import edu.kit.assignmentone.model.units.Qualifier;
+import edu.kit.assignmentone.model.units.UnionTable;
+import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnitCatalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the order of hand units that leaves the strongest unit on a field, measured by attack plus defense.
+ * Units are joined one after another like a placement does, and orders with a failing union are never
+ * chosen, as the failure eliminates the unit. The search memoises the best continuation per set of placed
+ * units, combined unit and first unit, and copies of the same card are only tried once. The combined
+ * qualifier is part of the memo key, as it decides the name check of every later union. Ties are broken
+ * in favour of fewer placed units.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class PlacementSolver {
+
+    private static final int STOP = -1;
+    private static final int TARGET_ROOT = -1;
+
+    private final Player player;
+    private final UnionTable unionTable;
+    private final Map<StateKey, Choice> bestChoices = new HashMap<>();
+
+    private PlacementSolver(Player player, UnionTable unionTable) {
+        this.player = player;
+        this.unionTable = unionTable;
+    }
+
+    /**
+     * Finds the best placement of the given player's hand units on a field.
+     *
+     * @param player     The player placing the units
+     * @param targetUnit The own unit on the field, or null if the field is empty
+     * @param unionTable The union table of the catalog the units come from
+     * @return The best plan, which places no unit if the field holds a unit that no union improves
+     */
+    public static PlacementPlan solve(Player player, PlacedUnit targetUnit, UnionTable unionTable) {
+        PlacementSolver solver = new PlacementSolver(player, unionTable);
+        if (targetUnit != null) {
+            solver.findBest(targetUnit.getUnit(), targetUnit.getCatalogId(), 0, TARGET_ROOT);
+            return solver.buildPlan(new ArrayList<>(), targetUnit.getUnit(), targetUnit.getCatalogId(), 0, TARGET_ROOT);
+        }
+
+        int bestIndex = STOP;
+        Choice bestChoice = null;
+        for (int index = 0; index < player.getHandSize(); index++) {
+            if (!solver.isRepeatedCard(index, 0)) {
+                int id = player.getHandId(index);
+                Choice choice = solver.findBest(player.getHandUnit(index), id, 1L << index, id);
+                if (bestChoice == null || choice.isBetterThan(bestChoice)) {
+                    bestChoice = choice;
+                    bestIndex = index;
+                }
+            }
+        }
+        if (bestChoice == null) {
+            return new PlacementPlan(List.of(), 0, 0);
+        }
+        List<Integer> handIndices = new ArrayList<>();
+        handIndices.add(bestIndex);
+        int firstId = player.getHandId(bestIndex);
+        return solver.buildPlan(handIndices, player.getHandUnit(bestIndex), firstId, 1L << bestIndex, firstId);
+    }
+
+    private Choice findBest(Unit unit, int unitId, long placedMask, int rootId) {
+        StateKey key = stateKey(unit, placedMask, rootId);
+        Choice bestChoice = this.bestChoices.get(key);
+        if (bestChoice != null) {
+            return bestChoice;
+        }
+        bestChoice = new Choice(unit.attack() + unit.defense(), 0, STOP);
+        for (int index = 0; index < this.player.getHandSize(); index++) {
+            if ((placedMask & 1L << index) == 0 && !isRepeatedCard(index, placedMask)) {
+                Unit card = this.player.getHandUnit(index);
+                long outcome = this.unionTable.lookUp(card, this.player.getHandId(index), unit, unitId);
+                if (outcome != UnionTable.NO_UNION) {
+                    Unit combinedUnit = card.createUnion(unit, outcome).orElseThrow();
+                    Choice next = findBest(combinedUnit, UnitCatalog.NO_ID, placedMask | 1L << index, rootId);
+                    Choice choice = new Choice(next.strength(), next.unitCount() + 1, index);
+                    if (choice.isBetterThan(bestChoice)) {
+                        bestChoice = choice;
+                    }
+                }
+            }
+        }
+        this.bestChoices.put(key, bestChoice);
+        return bestChoice;
+    }
+
+    private PlacementPlan buildPlan(List<Integer> handIndices, Unit firstUnit, int firstId, long firstMask, int rootId) {
+        Unit unit = firstUnit;
+        int unitId = firstId;
+        long placedMask = firstMask;
+        int index = this.bestChoices.get(stateKey(unit, placedMask, rootId)).nextIndex();
+        while (index != STOP) {
+            Unit card = this.player.getHandUnit(index);
+            long outcome = this.unionTable.lookUp(card, this.player.getHandId(index), unit, unitId);
+            unit = card.createUnion(unit, outcome).orElseThrow();
+            unitId = UnitCatalog.NO_ID;
+            placedMask |= 1L << index;
+            handIndices.add(index);
+            index = this.bestChoices.get(stateKey(unit, placedMask, rootId)).nextIndex();
+        }
+        return new PlacementPlan(handIndices, unit.attack(), unit.defense());
+    }
+
+    private static StateKey stateKey(Unit unit, long placedMask, int rootId) {
+        return new StateKey(placedMask, unit.qualifier(), unit.attack(), unit.defense(), rootId);
+    }
+
+    private boolean isRepeatedCard(int index, long placedMask) {
+        int id = this.player.getHandId(index);
+        for (int earlierIndex = 0; earlierIndex < index; earlierIndex++) {
+            if ((placedMask & 1L << earlierIndex) == 0 && this.player.getHandId(earlierIndex) == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record StateKey(long placedMask, Qualifier qualifier, int attack, int defense, int rootId) { }
+
+    private record Choice(int strength, int unitCount, int nextIndex) {
+
+        boolean isBetterThan(Choice other) {
+            return this.strength > other.strength || this.strength == other.strength && this.unitCount < other.unitCount;
+        }
+    }
+}
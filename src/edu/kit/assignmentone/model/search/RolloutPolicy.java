@@ -0,0 +1,52 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.AIEngine;
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.player.PlayerType;
+
+/**
+ * The light default policy used for Monte Carlo rollouts. Every turn is played by the greedy
+ * engine, so rollouts reuse its weighted random heuristics instead of a hand-tuned evaluation.
+ * The rollout copy of the game carries the random generator of its tree and publishes no events.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+final class RolloutPolicy {
+
+    private static final double REWARD_WIN = 1.0;
+    private static final double REWARD_DRAW = 0.5;
+    private static final double REWARD_LOSS = 0.0;
+
+    private RolloutPolicy() { }
+
+    /**
+     * Plays greedy turns until the game ends or the turn limit is reached.
+     *
+     * @param game      The game copy to play on
+     * @param turnLimit The maximum number of turns
+     * @return The reward from the point of view of {@link PlayerType#PLAYER}
+     */
+    static double playOut(Game game, int turnLimit) {
+        for (int turn = 0; turn < turnLimit && game.isRunning(); turn++) {
+            PlayerType activeType = game.getActivePlayer();
+            AIEngine.playTurn(game);
+            if (game.isRunning() && game.getActivePlayer() == activeType) {
+                break;
+            }
+        }
+        return reward(game);
+    }
+
+    private static double reward(Game game) {
+        PlayerType winner = game.getWinner();
+        if (winner == null) {
+            int difference = game.getHumanPlayer().getLifePoints() - game.getEnemyPlayer().getLifePoints();
+            winner = difference == 0 ? null : difference > 0 ? PlayerType.PLAYER : PlayerType.ENEMY;
+        }
+        if (winner == null) {
+            return REWARD_DRAW;
+        }
+        return winner == PlayerType.PLAYER ? REWARD_WIN : REWARD_LOSS;
+    }
+}
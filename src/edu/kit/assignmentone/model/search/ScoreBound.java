@@ -0,0 +1,13 @@
+package edu.kit.assignmentone.model.search;
+
+/**
+ * The relation between a stored search score and the true value of a position.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public enum ScoreBound {
+    /** The score is the exact value. */ EXACT,
+    /** The true value is at least the score (fail high). */ LOWER,
+    /** The true value is at most the score (fail low). */ UPPER
+}
@@ -0,0 +1,24 @@
+package edu.kit.assignmentone.model.search;
+
+/**
+ * Accumulated node and timing statistics of a search engine.
+ *
+ * @param nodes        The number of visited nodes
+ * @param elapsedNanos The time spent searching in nanoseconds
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record SearchStatistics(long nodes, long elapsedNanos) {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * Calculates the search throughput.
+     *
+     * @return The visited nodes per second, or 0 if no time was measured
+     */
+    public double nodesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.nodes * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+}
@@ -0,0 +1,15 @@
+package edu.kit.assignmentone.model.search;
+
+/**
+ * A search result read from the transposition table.
+ *
+ * @param score           The stored score
+ * @param depth           The remaining depth the score was searched with
+ * @param bound           The kind of bound the score represents
+ * @param bestActionIndex The index of the best action in generation order, or {@link TranspositionTable#NO_ACTION}
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record TableEntry(int score, int depth, ScoreBound bound, int bestActionIndex) {
+}
@@ -0,0 +1,103 @@
+package edu.kit.assignmentone.model.search;
+
+import edu.kit.assignmentone.model.StringConstants;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size transposition table that can be shared by several search threads without locks.
+ * Every slot stores the packed entry data and the key combined with that data by XOR. A reader
+ * only accepts a slot if both words still match its key, so a torn write from a concurrent
+ * store is detected and treated as a miss instead of returning foreign data.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class TranspositionTable {
+
+    /** Action index stored when no best action is known. */
+    public static final int NO_ACTION = -1;
+
+    private static final int WORDS_PER_SLOT = 2;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int ACTION_SHIFT = 42;
+    private static final long DEPTH_MASK = 0xFF;
+    private static final long BOUND_MASK = 0x3;
+    private static final long ACTION_MASK = 0xFFFF;
+    private static final long SCORE_MASK = 0xFFFF_FFFFL;
+    private static final long VALID_BIT = 1L << 62;
+    private static final int MAXIMUM_CAPACITY_BITS = 28;
+
+    private final AtomicLongArray slots;
+    private final int indexMask;
+
+    /**
+     * Creates a new table.
+     *
+     * @param capacityBits The binary logarithm of the number of slots
+     * @throws IllegalArgumentException If the capacity is out of range
+     */
+    public TranspositionTable(int capacityBits) {
+        if (capacityBits < 1 || capacityBits > MAXIMUM_CAPACITY_BITS) {
+            throw new IllegalArgumentException(StringConstants.ERROR_TABLE_CAPACITY);
+        }
+        this.slots = new AtomicLongArray(WORDS_PER_SLOT << capacityBits);
+        this.indexMask = (1 << capacityBits) - 1;
+    }
+
+    /**
+     * Looks up the entry of a position.
+     *
+     * @param key The Zobrist key of the position
+     * @return The entry, or an empty Optional if the slot holds another position
+     */
+    public Optional<TableEntry> probe(long key) {
+        int slot = slotIndex(key);
+        long data = this.slots.get(slot + 1);
+        long check = this.slots.get(slot);
+        if ((data & VALID_BIT) == 0 || (check ^ data) != key) {
+            return Optional.empty();
+        }
+        int actionIndex = (int) ((data >>> ACTION_SHIFT) & ACTION_MASK) - 1;
+        return Optional.of(new TableEntry((int) (data & SCORE_MASK), (int) ((data >>> DEPTH_SHIFT) & DEPTH_MASK),
+                ScoreBound.values()[(int) ((data >>> BOUND_SHIFT) & BOUND_MASK)], actionIndex));
+    }
+
+    /**
+     * Stores a search result. An existing entry of the same position is only replaced
+     * if the new result was searched at least as deep.
+     *
+     * @param key             The Zobrist key of the position
+     * @param score           The score
+     * @param depth           The remaining search depth
+     * @param bound           The kind of bound the score represents
+     * @param bestActionIndex The index of the best action in generation order, or {@link #NO_ACTION}
+     */
+    public void store(long key, int score, int depth, ScoreBound bound, int bestActionIndex) {
+        int slot = slotIndex(key);
+        long storedData = this.slots.get(slot + 1);
+        if ((this.slots.get(slot) ^ storedData) == key && ((storedData >>> DEPTH_SHIFT) & DEPTH_MASK) > depth) {
+            return;
+        }
+        long data = VALID_BIT
+                | ((bestActionIndex + 1) & ACTION_MASK) << ACTION_SHIFT
+                | (long) bound.ordinal() << BOUND_SHIFT
+                | (Math.min(depth, DEPTH_MASK) & DEPTH_MASK) << DEPTH_SHIFT
+                | (score & SCORE_MASK);
+        this.slots.set(slot, key ^ data);
+        this.slots.set(slot + 1, data);
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        for (int index = 0; index < this.slots.length(); index++) {
+            this.slots.set(index, 0);
+        }
+    }
+
+    private int slotIndex(long key) {
+        return ((int) key & this.indexMask) * WORDS_PER_SLOT;
+    }
+}
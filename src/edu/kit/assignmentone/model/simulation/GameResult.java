@@ -0,0 +1,21 @@
+package edu.kit.assignmentone.model.simulation;
+
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.search.SearchStatistics;
+
+/**
+ * The outcome of a single simulated game.
+ *
+ * @param seed              The seed the game was created with
+ * @param winner            The winner, or null if the turn limit was reached
+ * @param turns             The number of turns played
+ * @param playerLifePoints  The remaining life points of the player
+ * @param enemyLifePoints   The remaining life points of the enemy
+ * @param statistics        The combined search statistics of both strategies
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record GameResult(long seed, PlayerType winner, int turns, int playerLifePoints, int enemyLifePoints,
+                         SearchStatistics statistics) {
+}
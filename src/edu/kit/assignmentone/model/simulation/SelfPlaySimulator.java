@@ -0,0 +1,129 @@
+package edu.kit.assignmentone.model.simulation;
+
+import edu.kit.assignmentone.model.AIStrategy;
+import edu.kit.assignmentone.model.EngineType;
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.player.PlayerType;
+import edu.kit.assignmentone.model.search.SearchStatistics;
+import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.model.units.UnitCatalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays computer-versus-computer games for a range of seeds without console output.
+ * Each game runs on one worker thread and both players are driven by their own
+ * instance of the selected engine. Every worker thread keeps its engine instances
+ * and resets them before each game, so games only depend on their seed and every
+ * simulated game can be replayed on its own.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class SelfPlaySimulator {
+
+    private static final int MAXIMUM_TURNS = 200;
+
+    private final UnitCatalog catalog;
+    private final List<Integer> deckBlueprint;
+    private final EngineType engineType;
+    private final int threadCount;
+    private final ThreadLocal<AIStrategy[]> workerStrategies = ThreadLocal.withInitial(this::createStrategies);
+
+    /**
+     * Creates a new simulator.
+     *
+     * @param allUnits      The units as read from the units file
+     * @param deckBlueprint The card count per unit as read from the deck file
+     * @param engineType    The engine playing both sides
+     * @param threadCount   The number of worker threads
+     */
+    public SelfPlaySimulator(List<Unit> allUnits, List<Integer> deckBlueprint, EngineType engineType, int threadCount) {
+        this.catalog = new UnitCatalog(allUnits);
+        this.deckBlueprint = List.copyOf(deckBlueprint);
+        this.engineType = engineType;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Simulates the games of consecutive seeds. Simulated games do not publish any events.
+     *
+     * @param firstSeed The seed of the first game
+     * @param gameCount The number of games
+     * @return The aggregated report
+     * @throws IllegalStateException If a game cannot be created or fails, or if the simulation is interrupted
+     */
+    public SimulationReport run(long firstSeed, int gameCount) {
+        List<Callable<GameResult>> tasks = new ArrayList<>();
+        for (int gameIndex = 0; gameIndex < gameCount; gameIndex++) {
+            long seed = firstSeed + gameIndex;
+            tasks.add(() -> playGame(seed));
+        }
+
+        List<GameResult> results = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(this.threadCount);
+        try {
+            for (Future<GameResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(StringConstants.ERROR_SIMULATION_INTERRUPTED, exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new SimulationReport(firstSeed, List.copyOf(results), System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Plays a single game until it ends or the turn limit is reached.
+     *
+     * @param seed The seed of the game
+     * @return The result
+     */
+    public GameResult playGame(long seed) {
+        Game game = new Game(seed, this.catalog, this.deckBlueprint);
+        AIStrategy[] strategies = this.workerStrategies.get();
+        for (AIStrategy strategy : strategies) {
+            strategy.reset();
+        }
+
+        int turns = 0;
+        while (game.isRunning() && turns < MAXIMUM_TURNS) {
+            strategies[game.getActivePlayer().ordinal()].playTurn(game);
+            turns++;
+        }
+        game.quit();
+
+        long nodes = 0;
+        long elapsedNanos = 0;
+        for (AIStrategy strategy : strategies) {
+            SearchStatistics statistics = strategy.getStatistics();
+            nodes += statistics.nodes();
+            elapsedNanos += statistics.elapsedNanos();
+        }
+        return new GameResult(seed, game.getWinner(), turns, game.getHumanPlayer().getLifePoints(),
+                game.getEnemyPlayer().getLifePoints(), new SearchStatistics(nodes, elapsedNanos));
+    }
+
+    private AIStrategy[] createStrategies() {
+        AIStrategy[] strategies = new AIStrategy[PlayerType.values().length];
+        for (PlayerType type : PlayerType.values()) {
+            strategies[type.ordinal()] = this.engineType.createStrategy();
+        }
+        return strategies;
+    }
+}
@@ -0,0 +1,110 @@
+package edu.kit.assignmentone.model.simulation;
+
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.player.PlayerType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The aggregated results of a self-play simulation.
+ *
+ * @param firstSeed    The seed of the first game
+ * @param results      The results of all games in seed order
+ * @param elapsedNanos The wall-clock time of the simulation in nanoseconds
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public record SimulationReport(long firstSeed, List<GameResult> results, long elapsedNanos) {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double PERCENT = 100.0;
+    private static final int LIFE_POINTS_BUCKET = 1000;
+    private static final int BUCKET_COUNT = 9;
+
+    /**
+     * Calculates the simulation throughput.
+     *
+     * @return The finished games per second, or 0 if no time was measured
+     */
+    public double gamesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.results.size() * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+
+    /**
+     * Counts the games won by a player.
+     *
+     * @param type The player, or null to count the games that reached the turn limit
+     * @return The number of games
+     */
+    public int countWins(PlayerType type) {
+        int wins = 0;
+        for (GameResult result : this.results) {
+            if (result.winner() == type) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Calculates the average game length.
+     *
+     * @return The average number of turns
+     */
+    public double averageTurns() {
+        return this.results.stream().mapToInt(GameResult::turns).average().orElse(0);
+    }
+
+    /**
+     * Formats the report for console output.
+     *
+     * @return The formatted report
+     */
+    public String format() {
+        int gameCount = this.results.size();
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(StringConstants.FORMAT_SIMULATION_SUMMARY, gameCount, this.firstSeed,
+                this.firstSeed + gameCount - 1, this.elapsedNanos / NANOS_PER_SECOND, gamesPerSecond()));
+        for (PlayerType type : PlayerType.values()) {
+            int wins = countWins(type);
+            builder.append(String.format(StringConstants.FORMAT_SIMULATION_WINS, type.getDisplayName(), wins,
+                    gameCount == 0 ? 0 : wins * PERCENT / gameCount));
+        }
+        builder.append(String.format(StringConstants.FORMAT_SIMULATION_UNDECIDED, countWins(null)));
+        builder.append(String.format(StringConstants.FORMAT_SIMULATION_LENGTH, averageTurns()));
+        for (PlayerType type : PlayerType.values()) {
+            builder.append(formatLifePoints(type));
+        }
+
+        long nodes = 0;
+        long searchNanos = 0;
+        for (GameResult result : this.results) {
+            nodes += result.statistics().nodes();
+            searchNanos += result.statistics().elapsedNanos();
+        }
+        if (nodes > 0) {
+            builder.append(String.format(StringConstants.FORMAT_SIMULATION_SEARCH, nodes,
+                    nodes * NANOS_PER_SECOND / searchNanos));
+        }
+        return builder.toString();
+    }
+
+    private String formatLifePoints(PlayerType type) {
+        int[] buckets = new int[BUCKET_COUNT];
+        int minimum = Integer.MAX_VALUE;
+        int maximum = 0;
+        long sum = 0;
+        for (GameResult result : this.results) {
+            int lifePoints = type == PlayerType.PLAYER ? result.playerLifePoints() : result.enemyLifePoints();
+            buckets[Math.min(BUCKET_COUNT - 1, lifePoints / LIFE_POINTS_BUCKET)]++;
+            minimum = Math.min(minimum, lifePoints);
+            maximum = Math.max(maximum, lifePoints);
+            sum += lifePoints;
+        }
+        int gameCount = this.results.size();
+        return String.format(StringConstants.FORMAT_SIMULATION_LIFE_POINTS, type.getDisplayName(),
+                gameCount == 0 ? 0 : minimum, gameCount == 0 ? 0 : (double) sum / gameCount, maximum, Arrays.toString(buckets));
+    }
+}
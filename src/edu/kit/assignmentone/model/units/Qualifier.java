@@ -0,0 +1,167 @@
+package edu.kit.assignmentone.model.units;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The qualifier of a unit as an immutable rope. Combining units joins their qualifiers in constant time
+ * and shares both parts, instead of copying them into a new string that grows with every union.
+ * Length, hash code and the hash code without leading whitespace are kept up to date on every join,
+ * so that names can be compared without building them. The text is only built when it is needed and
+ * then cached. The hash code is the one of the text as a {@link String}.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class Qualifier {
+
+    private static final char SEPARATOR = ' ';
+    private static final int HASH_BASE = 31;
+    private static final Qualifier SEPARATOR_QUALIFIER = of(String.valueOf(SEPARATOR));
+
+    private final Qualifier first;
+    private final Qualifier second;
+    private final int length;
+    private final int hash;
+    private final int hashPower;
+    private final int strippedLength;
+    private final int strippedHash;
+    private String text;
+    private FullName fullName;
+
+    private Qualifier(String text) {
+        this.first = null;
+        this.second = null;
+        this.text = text;
+        this.length = text.length();
+        this.hash = text.hashCode();
+        this.hashPower = power(this.length);
+        int strippedStart = 0;
+        while (strippedStart < this.length && text.charAt(strippedStart) <= SEPARATOR) {
+            strippedStart++;
+        }
+        this.strippedLength = this.length - strippedStart;
+        this.strippedHash = strippedStart == 0 ? this.hash : text.substring(strippedStart).hashCode();
+    }
+
+    private Qualifier(Qualifier first, Qualifier second) {
+        this.first = first;
+        this.second = second;
+        this.length = first.length + 1 + second.length;
+        int secondPower = second.hashPower;
+        this.hash = first.hash * HASH_BASE * secondPower + SEPARATOR * secondPower + second.hash;
+        this.hashPower = first.hashPower * HASH_BASE * secondPower;
+        if (first.strippedLength == 0) {
+            this.strippedLength = second.strippedLength;
+            this.strippedHash = second.strippedHash;
+        } else {
+            this.strippedLength = first.strippedLength + 1 + second.length;
+            this.strippedHash = first.strippedHash * HASH_BASE * secondPower + SEPARATOR * secondPower + second.hash;
+        }
+    }
+
+    /**
+     * Creates a qualifier with the given text.
+     *
+     * @param text The text
+     * @return The qualifier
+     */
+    public static Qualifier of(String text) {
+        return new Qualifier(text);
+    }
+
+    /**
+     * Creates the qualifier of this qualifier followed by a space and another one, without copying either.
+     *
+     * @param appended The qualifier to append
+     * @return The joined qualifier
+     */
+    public Qualifier join(Qualifier appended) {
+        return new Qualifier(this, appended);
+    }
+
+    /**
+     * Gets the number of characters of the text.
+     *
+     * @return The length
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Checks if two qualifiers have the same text once leading whitespace is removed. This only
+     * builds the texts if their lengths and hash codes match.
+     *
+     * @param other The other qualifier
+     * @return True if the stripped texts are equal
+     */
+    public boolean hasSameStrippedText(Qualifier other) {
+        return this.strippedLength == other.strippedLength && this.strippedHash == other.strippedHash
+                && toString().regionMatches(this.length - this.strippedLength, other.toString(),
+                other.length - other.strippedLength, this.strippedLength);
+    }
+
+    /**
+     * Formats the full name of a unit with this qualifier, which is cached for the last role.
+     *
+     * @param roleString The role of the unit
+     * @return The qualifier and the role, separated by a space and trimmed
+     */
+    String formatFullName(String roleString) {
+        FullName cachedName = this.fullName;
+        if (cachedName == null || !cachedName.roleString().equals(roleString)) {
+            cachedName = new FullName(roleString, (toString() + SEPARATOR + roleString).trim());
+            this.fullName = cachedName;
+        }
+        return cachedName.text();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return this == object || object instanceof Qualifier other && this.length == other.length
+                && this.hash == other.hash && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        String builtText = this.text;
+        if (builtText == null) {
+            builtText = build();
+            this.text = builtText;
+        }
+        return builtText;
+    }
+
+    private String build() {
+        StringBuilder builder = new StringBuilder(this.length);
+        Deque<Qualifier> pendingParts = new ArrayDeque<>();
+        pendingParts.push(this);
+        while (!pendingParts.isEmpty()) {
+            Qualifier part = pendingParts.pop();
+            if (part.text != null) {
+                builder.append(part.text);
+            } else {
+                pendingParts.push(part.second);
+                pendingParts.push(SEPARATOR_QUALIFIER);
+                pendingParts.push(part.first);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int power(int exponent) {
+        int result = 1;
+        for (int index = 0; index < exponent; index++) {
+            result *= HASH_BASE;
+        }
+        return result;
+    }
+
+    private record FullName(String roleString, String text) { }
+}
@@ -0,0 +1,137 @@
+package edu.kit.assignmentone.model.units;
+
+import edu.kit.assignmentone.model.MathUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The outcome of every union between units of a catalog. The outcomes of all pairs of catalog units are
+ * computed when the catalog is created, so they can be looked up by ID. Outcomes of combined units depend
+ * only on the stats of both units and are memoised as they occur. The memo is safe to share between
+ * games running in parallel. An outcome is the combined attack and defense packed into one long, or
+ * {@link #NO_UNION}.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class UnionTable {
+
+    /** The outcome of a union that fails. */
+    public static final long NO_UNION = Long.MIN_VALUE;
+
+    private static final int STAT_SHIFT = 32;
+    private static final long STAT_MASK = 0xFFFFFFFFL;
+    private static final int MAXIMUM_MEMOISED_OUTCOMES = 1 << 16;
+    private static final int PRIME_FACTOR = 100;
+
+    private final int unitCount;
+    private final long[] catalogOutcomes;
+    private final ConcurrentMap<StatPair, Long> memoisedOutcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Computes the outcomes of all pairs of catalog units.
+     *
+     * @param units The catalog units, indexed by ID
+     */
+    UnionTable(Unit[] units) {
+        this.unitCount = units.length;
+        this.catalogOutcomes = new long[this.unitCount * this.unitCount];
+        for (int id = 0; id < this.unitCount; id++) {
+            for (int targetId = 0; targetId < this.unitCount; targetId++) {
+                Unit unit = units[id];
+                Unit targetUnit = units[targetId];
+                this.catalogOutcomes[id * this.unitCount + targetId] = unit.hasSameName(targetUnit) ? NO_UNION
+                        : computeOutcome(unit.attack(), unit.defense(), targetUnit.attack(), targetUnit.defense());
+            }
+        }
+    }
+
+    /**
+     * Looks up the outcome of a unit joining a target unit.
+     *
+     * @param unit           The joining unit
+     * @param unitId         The catalog ID of the joining unit, or {@link UnitCatalog#NO_ID} for a combined unit
+     * @param targetUnit     The unit that is joined
+     * @param targetUnitId   The catalog ID of the target unit, or {@link UnitCatalog#NO_ID} for a combined unit
+     * @return The outcome
+     */
+    public long lookUp(Unit unit, int unitId, Unit targetUnit, int targetUnitId) {
+        if (unitId != UnitCatalog.NO_ID && targetUnitId != UnitCatalog.NO_ID) {
+            return this.catalogOutcomes[unitId * this.unitCount + targetUnitId];
+        }
+        if (unit.hasSameName(targetUnit)) {
+            return NO_UNION;
+        }
+        StatPair stats = new StatPair(unit.attack(), unit.defense(), targetUnit.attack(), targetUnit.defense());
+        Long outcome = this.memoisedOutcomes.get(stats);
+        if (outcome == null) {
+            outcome = computeOutcome(stats.attack(), stats.defense(), stats.targetAttack(), stats.targetDefense());
+            if (this.memoisedOutcomes.size() < MAXIMUM_MEMOISED_OUTCOMES) {
+                this.memoisedOutcomes.putIfAbsent(stats, outcome);
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Gets the attack of a successful outcome.
+     *
+     * @param outcome The outcome
+     * @return The combined attack
+     */
+    public static int getAttack(long outcome) {
+        return (int) (outcome >> STAT_SHIFT);
+    }
+
+    /**
+     * Gets the defense of a successful outcome.
+     *
+     * @param outcome The outcome
+     * @return The combined defense
+     */
+    public static int getDefense(long outcome) {
+        return (int) outcome;
+    }
+
+    /**
+     * Gets the sum of attack and defense of an outcome.
+     *
+     * @param outcome The outcome, which must not be {@link #NO_UNION}
+     * @return The combined strength
+     */
+    public static int getStrength(long outcome) {
+        return getAttack(outcome) + getDefense(outcome);
+    }
+
+    /**
+     * Computes the outcome of a union from the stats of both units, ignoring their names.
+     *
+     * @param attack        The attack of the joining unit
+     * @param defense       The defense of the joining unit
+     * @param targetAttack  The attack of the target unit
+     * @param targetDefense The defense of the target unit
+     * @return The outcome
+     */
+    private static long computeOutcome(int attack, int defense, int targetAttack, int targetDefense) {
+        if (attack > targetAttack && attack == targetDefense && targetAttack == defense) {
+            return pack(attack, targetDefense);
+        }
+        int maximumGreatestCommonDivisor = Math.max(MathUtils.calculateGreatestCommonDivisor(attack, targetAttack),
+                MathUtils.calculateGreatestCommonDivisor(defense, targetDefense));
+        if (maximumGreatestCommonDivisor > PRIME_FACTOR) {
+            return pack(attack + targetAttack - maximumGreatestCommonDivisor, defense + targetDefense - maximumGreatestCommonDivisor);
+        }
+        if (maximumGreatestCommonDivisor == PRIME_FACTOR && (MathUtils.hasPrime(attack / PRIME_FACTOR, targetAttack / PRIME_FACTOR)
+                || MathUtils.hasPrime(defense / PRIME_FACTOR, targetDefense / PRIME_FACTOR))) {
+            return pack(attack + targetAttack, defense + targetDefense);
+        }
+        return NO_UNION;
+    }
+
+    private static long pack(int attack, int defense) {
+        return (long) attack << STAT_SHIFT | defense & STAT_MASK;
+    }
+
+    private record StatPair(int attack, int defense, int targetAttack, int targetDefense) { }
+}
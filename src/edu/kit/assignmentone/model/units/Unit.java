@@ -1,60 +1,62 @@
 package edu.kit.assignmentone.model.units;
 
-import edu.kit.assignmentone.model.MathUtils;
 import edu.kit.assignmentone.model.StringConstants;
 import edu.kit.assignmentone.model.player.PlayerType;
 import java.util.Optional;
 
 /**
- * Represents a single unit configuration as read from the units file.
+ * Represents a single unit configuration as read from the units file, or the result of combining units.
+ * Roles are trimmed and never empty, and units with different roles never share a full name, so two units
+ * have the same full name exactly if they have the same role and the same qualifier apart from leading whitespace.
  *
  * @author uqhkm
  * @version 1.0
  */
-public record Unit(String qualifier, String roleString, UnitType type, int attack, int defense) {
+public record Unit(Qualifier qualifier, String roleString, UnitType type, int attack, int defense) {
 
-    public Unit copy() {
-        return new Unit(this.qualifier, this.roleString, this.type, this.attack, this.defense);
+    /**
+     * Creates a unit with a plain qualifier, as read from the units file.
+     *
+     * @param qualifier  The qualifier
+     * @param roleString The role
+     * @param type       The unit type
+     * @param attack     The attack value
+     * @param defense    The defense value
+     */
+    public Unit(String qualifier, String roleString, UnitType type, int attack, int defense) {
+        this(Qualifier.of(qualifier), roleString, type, attack, defense);
     }
 
     /**
      * @return The full name consisting of qualifier and role.
      */
     public String fullName() {
-        return (this.qualifier + " " + this.roleString).trim();
+        return this.qualifier.formatFullName(this.roleString);
     }
 
-    public Optional<Unit> combineWith(Unit otherUnit) {
-        Optional<Unit> resultOptional = Optional.empty();
-
-        if (!this.fullName().equals(otherUnit.fullName())) {
-            String newQualifier = otherUnit.qualifier() + " " + this.qualifier();
-            String newRoleString = otherUnit.roleString();
-            UnitType newType = otherUnit.type();
-
-            int thisAttack = this.attack;
-            int thisDefense = this.defense;
-            int otherAttack = otherUnit.attack();
-            int otherDefense = otherUnit.defense();
-
-            if (thisAttack > otherAttack && thisAttack == otherDefense && otherAttack == thisDefense) {
-                resultOptional = Optional.of(new Unit(newQualifier, newRoleString, newType, thisAttack, otherDefense));
-            } else {
-                int maximumGreatestCommonDivisor = Math.max(MathUtils.calculateGreatestCommonDivisor(thisAttack, otherAttack), MathUtils.calculateGreatestCommonDivisor(thisDefense, otherDefense));
-                if (maximumGreatestCommonDivisor > 100) {
-                    resultOptional = Optional.of(new Unit(newQualifier, newRoleString, newType,
-                            thisAttack + otherAttack - maximumGreatestCommonDivisor, thisDefense + otherDefense - maximumGreatestCommonDivisor));
-                } else if (maximumGreatestCommonDivisor == 100 && (MathUtils.hasPrime(thisAttack / 100, otherAttack / 100)
-                        || MathUtils.hasPrime(thisDefense / 100, otherDefense / 100))) {
-                    resultOptional = Optional.of(new Unit(newQualifier, newRoleString, newType, thisAttack + otherAttack, thisDefense + otherDefense));
-                }
-            }
-        }
-        return resultOptional;
+    /**
+     * Checks if another unit has the same full name, without building the names unless they are likely equal.
+     *
+     * @param otherUnit The other unit
+     * @return True if the full names are equal
+     */
+    public boolean hasSameName(Unit otherUnit) {
+        return this.roleString.equals(otherUnit.roleString()) && this.qualifier.hasSameStrippedText(otherUnit.qualifier());
     }
 
-    public String formatHandInformation(int index) {
-        return String.format(StringConstants.FORMAT_HAND_CARD, index, this.fullName(), this.attack, this.defense);
+    /**
+     * Creates the unit resulting from this unit joining another one, with an outcome looked up in a {@link UnionTable}.
+     *
+     * @param otherUnit The unit that is joined
+     * @param outcome   The outcome of the union
+     * @return The combined unit, or empty if the union fails
+     */
+    public Optional<Unit> createUnion(Unit otherUnit, long outcome) {
+        if (outcome == UnionTable.NO_UNION) {
+            return Optional.empty();
+        }
+        return Optional.of(new Unit(otherUnit.qualifier().join(this.qualifier), otherUnit.roleString(), otherUnit.type(),
+                UnionTable.getAttack(outcome), UnionTable.getDefense(outcome)));
     }
 
     public String formatDiscardInformation(PlayerType playerType) {
@@ -0,0 +1,153 @@
+package edu.kit.assignmentone.model.units;
+
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.Zobrist;
+import edu.kit.assignmentone.model.player.PlayerType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The immutable set of units a game is played with. Every distinct unit of the units file and the king
+ * get a small int ID, so that decks and hands can hold IDs instead of unit references. Full names, king
+ * flags, hand keys and the outcomes of unions are computed once per ID. Equal rows of the units file
+ * share the same ID. A catalog can be shared by any number of games.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class UnitCatalog {
+
+    /** The unit both kings are placed with. */
+    public static final Unit KING = new Unit(StringConstants.EMPTY_STRING, StringConstants.KING_NAME, UnitType.FARMER, 0, 0);
+
+    /** The ID of {@link #KING}. */
+    public static final int KING_ID = 0;
+
+    /** Stands for the ID of a combined unit, which is not part of the catalog. */
+    public static final int NO_ID = -1;
+
+    private final Unit[] units;
+    private final String[] fullNames;
+    private final boolean[] kings;
+    private final long[][] handKeys;
+    private final int[] rowIds;
+    private final UnionTable unionTable;
+
+    /**
+     * Creates a catalog of the king and the given units.
+     *
+     * @param loadedUnits The units as read from the units file, in file order
+     */
+    public UnitCatalog(List<Unit> loadedUnits) {
+        Map<Unit, Integer> idsByUnit = new HashMap<>();
+        Unit[] distinctUnits = new Unit[loadedUnits.size() + 1];
+        distinctUnits[KING_ID] = KING;
+        idsByUnit.put(KING, KING_ID);
+        this.rowIds = new int[loadedUnits.size()];
+        for (int row = 0; row < loadedUnits.size(); row++) {
+            Unit unit = loadedUnits.get(row);
+            int id = idsByUnit.computeIfAbsent(unit, ignored -> idsByUnit.size());
+            distinctUnits[id] = unit;
+            this.rowIds[row] = id;
+        }
+
+        int unitCount = idsByUnit.size();
+        this.units = new Unit[unitCount];
+        this.fullNames = new String[unitCount];
+        this.kings = new boolean[unitCount];
+        this.handKeys = new long[PlayerType.values().length][unitCount];
+        for (int id = 0; id < unitCount; id++) {
+            Unit unit = distinctUnits[id];
+            this.units[id] = unit;
+            this.fullNames[id] = unit.fullName();
+            this.kings[id] = this.fullNames[id].equals(StringConstants.KING_NAME);
+            for (PlayerType owner : PlayerType.values()) {
+                this.handKeys[owner.ordinal()][id] = Zobrist.handKey(owner, unit);
+            }
+        }
+        this.unionTable = new UnionTable(this.units);
+    }
+
+    /**
+     * Gets the number of rows of the units file.
+     *
+     * @return The row count
+     */
+    public int getRowCount() {
+        return this.rowIds.length;
+    }
+
+    /**
+     * Gets the ID of the unit in a row of the units file.
+     *
+     * @param row The zero-based row, ignoring blank lines
+     * @return The ID
+     */
+    public int getRowId(int row) {
+        return this.rowIds[row];
+    }
+
+    /**
+     * Gets the unit with the given ID.
+     *
+     * @param id The ID
+     * @return The unit
+     */
+    public Unit getUnit(int id) {
+        return this.units[id];
+    }
+
+    /**
+     * Gets the full name of the unit with the given ID.
+     *
+     * @param id The ID
+     * @return The full name
+     */
+    public String getFullName(int id) {
+        return this.fullNames[id];
+    }
+
+    /**
+     * Checks if the unit with the given ID is a king.
+     *
+     * @param id The ID
+     * @return True for the king
+     */
+    public boolean isKing(int id) {
+        return this.kings[id];
+    }
+
+    /**
+     * Gets the Zobrist key of the unit with the given ID in a hand.
+     *
+     * @param owner The owner of the hand
+     * @param id    The ID
+     * @return The key, as returned by {@link Zobrist#handKey(PlayerType, Unit)}
+     */
+    public long getHandKey(PlayerType owner, int id) {
+        return this.handKeys[owner.ordinal()][id];
+    }
+
+    /**
+     * Gets the outcomes of all unions between units of this catalog and units combined from them.
+     *
+     * @return The union table
+     */
+    public UnionTable getUnionTable() {
+        return this.unionTable;
+    }
+
+    /**
+     * Formats a hand card for console output.
+     *
+     * @param id    The ID of the card
+     * @param index The one-based index of the card in the hand
+     * @return The formatted line
+     */
+    public String formatHandInformation(int id, int index) {
+        Unit unit = this.units[id];
+        return String.format(StringConstants.FORMAT_HAND_CARD, index, this.fullNames[id], unit.attack(), unit.defense());
+    }
+}
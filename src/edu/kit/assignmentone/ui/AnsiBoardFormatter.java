@@ -0,0 +1,81 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.board.Board;
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * Draws the board once at the top of an ANSI terminal and lets all other output scroll below it.
+ * Later boards only move the cursor to the characters that differ from what was drawn last and
+ * overwrite them, so that unchanged cells are never sent again.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class AnsiBoardFormatter extends BoardFormatter {
+
+    private static final String ESCAPE = "\u001B";
+    private static final String CONTROL = ESCAPE + "[";
+    private static final String CLEAR_SCREEN = CONTROL + "2J";
+    private static final String SAVE_CURSOR = ESCAPE + "7";
+    private static final String RESTORE_CURSOR = ESCAPE + "8";
+    private static final String RESET_SCROLL_REGION = CONTROL + "r";
+    private static final String FORMAT_CURSOR = CONTROL + "%d;%dH";
+    private static final String FORMAT_SCROLL_REGION = CONTROL + "%dr";
+    /** Terminals clamp larger rows to their last row. */
+    private static final int BOTTOM_ROW = 999;
+    private static final int SPACING_ROWS = 1;
+
+    private String[] drawnLines;
+
+    @Override
+    public String formatBoard(Board board, Position highlightPosition) {
+        String[] lines = super.formatBoard(board, highlightPosition).lines().toArray(String[]::new);
+        String output = this.drawnLines == null ? drawFully(lines) : drawDifferences(lines);
+        this.drawnLines = lines;
+        return output;
+    }
+
+    @Override
+    public String formatClosing() {
+        if (this.drawnLines == null) {
+            return StringConstants.EMPTY_STRING;
+        }
+        return RESET_SCROLL_REGION + String.format(FORMAT_CURSOR, BOTTOM_ROW, 1);
+    }
+
+    private static String drawFully(String[] lines) {
+        StringBuilder builder = new StringBuilder(CLEAR_SCREEN).append(String.format(FORMAT_CURSOR, 1, 1));
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        int firstScrollingRow = lines.length + SPACING_ROWS + 1;
+        builder.append(String.format(FORMAT_SCROLL_REGION, firstScrollingRow));
+        builder.append(String.format(FORMAT_CURSOR, firstScrollingRow, 1));
+        return builder.toString();
+    }
+
+    private String drawDifferences(String[] lines) {
+        StringBuilder builder = new StringBuilder();
+        for (int row = 0; row < lines.length; row++) {
+            String line = lines[row];
+            String drawnLine = this.drawnLines[row];
+            int column = 0;
+            while (column < line.length()) {
+                if (line.charAt(column) == drawnLine.charAt(column)) {
+                    column++;
+                } else {
+                    int start = column;
+                    while (column < line.length() && line.charAt(column) != drawnLine.charAt(column)) {
+                        column++;
+                    }
+                    builder.append(String.format(FORMAT_CURSOR, row + 1, start + 1)).append(line, start, column);
+                }
+            }
+        }
+        if (builder.isEmpty()) {
+            return StringConstants.EMPTY_STRING;
+        }
+        return SAVE_CURSOR + builder + RESTORE_CURSOR;
+    }
+}
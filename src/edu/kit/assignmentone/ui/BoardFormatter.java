@@ -1,5 +1,6 @@
 package edu.kit.assignmentone.ui;
 
+import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
 import edu.kit.assignmentone.model.board.Board;
 import edu.kit.assignmentone.model.board.PlacedUnit;
@@ -7,23 +8,56 @@ import edu.kit.assignmentone.model.board.Position;
 import edu.kit.assignmentone.model.player.PlayerType;
 
 /**
- * Utility class to format the game board for console output.
+ * Formats the game board for console output. The rendering of an empty board is kept as a character
+ * template in which only the cells that changed since the previous rendering are patched, and the last
+ * result is reused as long as neither the board nor the highlighted position have changed.
+ * Subclasses may turn the rendering into terminal-specific output.
  *
  * @author uqhkm
  * @version 1.0
  */
-public final class BoardFormatter {
+public class BoardFormatter {
 
-    private static final int BOARD_SIZE = 7;
-    private static final String SYMBOL_PLAYER = "x";
-    private static final String SYMBOL_ENEMY = "y";
-    private static final String SYMBOL_PLAYER_KING = "X";
-    private static final String SYMBOL_ENEMY_KING = "Y";
-    private static final String SYMBOL_HIGHLIGHT = "*";
-    private static final String SYMBOL_EMPTY = " ";
-    private static final String SYMBOL_BLOCK = "b";
+    private static final int BOARD_SIZE = Position.BOARD_SIZE;
+    private static final char SYMBOL_PLAYER = 'x';
+    private static final char SYMBOL_ENEMY = 'y';
+    private static final char SYMBOL_PLAYER_KING = 'X';
+    private static final char SYMBOL_ENEMY_KING = 'Y';
+    private static final char SYMBOL_HIGHLIGHT = '*';
+    private static final char SYMBOL_EMPTY = ' ';
+    private static final char SYMBOL_BLOCK = 'b';
+    private static final int NO_CELL = -1;
 
-    private BoardFormatter() { }
+    private final char[] template;
+    private final int[] cellOffsets;
+    private final char[] cellSymbols;
+    private final char[] cellMarkers;
+
+    private Board renderedBoard;
+    private int renderedModificationCount;
+    private int highlightedCell = NO_CELL;
+    private String renderedBoardString;
+
+    /**
+     * Creates a new formatter, which caches the rendering of the board it formatted last.
+     */
+    public BoardFormatter() {
+        String emptyCell = String.format(StringConstants.FORMAT_CELL, SYMBOL_EMPTY, SYMBOL_EMPTY);
+        StringBuilder builder = new StringBuilder();
+        this.cellOffsets = new int[Position.CELL_COUNT];
+        for (int row = BOARD_SIZE - 1; row >= 0; row--) {
+            builder.append(String.format(StringConstants.FORMAT_ROW, row + 1));
+            for (int column = 0; column < BOARD_SIZE; column++) {
+                this.cellOffsets[Position.of(column, row).index()] = builder.length();
+                builder.append(emptyCell);
+            }
+            builder.append(System.lineSeparator());
+        }
+        builder.append(StringConstants.COLUMN_FOOTER).append(System.lineSeparator());
+        this.template = builder.toString().toCharArray();
+        this.cellSymbols = new char[Position.CELL_COUNT];
+        this.cellMarkers = new char[Position.CELL_COUNT];
+    }
 
     /**
      * Formats the game board into a string representation.
@@ -31,45 +65,93 @@ public final class BoardFormatter {
      * @param highlightPosition The currently selected position to highlight
      * @return The formatted board string
      */
-    public static String formatBoard(Board board, Position highlightPosition) {
-        StringBuilder builder = new StringBuilder();
+    public String formatBoard(Board board, Position highlightPosition) {
+        int highlightCell = highlightPosition == null ? NO_CELL : highlightPosition.index();
+        boolean boardChanged = board != this.renderedBoard || board.getModificationCount() != this.renderedModificationCount;
+        if (!boardChanged && highlightCell == this.highlightedCell && this.renderedBoardString != null) {
+            return this.renderedBoardString;
+        }
 
-        for (int row = BOARD_SIZE - 1; row >= 0; row--) {
-            builder.append(String.format(StringConstants.FORMAT_ROW, row + 1));
+        if (boardChanged) {
+            patchCells(board);
+            this.renderedBoard = board;
+            this.renderedModificationCount = board.getModificationCount();
+        }
+        if (this.highlightedCell != NO_CELL) {
+            this.template[this.cellOffsets[this.highlightedCell]] = SYMBOL_EMPTY;
+        }
+        if (highlightCell != NO_CELL) {
+            this.template[this.cellOffsets[highlightCell]] = SYMBOL_HIGHLIGHT;
+        }
+        this.highlightedCell = highlightCell;
+        this.renderedBoardString = new String(this.template);
+        return this.renderedBoardString;
+    }
 
-            for (int column = 0; column < BOARD_SIZE; column++) {
-                Position currentPosition = new Position(column, row);
-                PlacedUnit unit = board.getUnitAt(currentPosition).orElse(null);
+    /**
+     * Formats the board with the given position highlighted, followed by the information
+     * about the unit on that position.
+     * @param game The game instance
+     * @param selectedPosition The selected position, or null
+     * @return The formatted board and unit information
+     */
+    public String formatSelection(Game game, Position selectedPosition) {
+        return formatSelection(game.getBoard(), selectedPosition, formatInformation(game, selectedPosition));
+    }
 
-                String cellContent = getCellContent(unit);
-                String prefix = currentPosition.equals(highlightPosition) ? SYMBOL_HIGHLIGHT : SYMBOL_EMPTY;
+    /**
+     * Formats the board with the given position highlighted, followed by unit information captured earlier.
+     * @param board The game board
+     * @param selectedPosition The selected position, or null
+     * @param information The information about the unit on that position
+     * @return The formatted board and unit information
+     */
+    public String formatSelection(Board board, Position selectedPosition, String information) {
+        return formatBoard(board, selectedPosition) + information + System.lineSeparator();
+    }
+
+    /**
+     * Formats the information about the unit on a position, as seen by the active player.
+     * @param game The game instance
+     * @param selectedPosition The selected position, or null
+     * @return The unit information, or the placeholder for no unit
+     */
+    public static String formatInformation(Game game, Position selectedPosition) {
+        PlacedUnit unit = selectedPosition == null ? null : game.getBoard().getUnitAt(selectedPosition).orElse(null);
+        return unit == null ? StringConstants.NO_UNIT_SELECTED : unit.formatInformation(game);
+    }
 
-                builder.append(String.format(StringConstants.FORMAT_CELL, prefix, cellContent));
+    private void patchCells(Board board) {
+        for (int cellIndex = 0; cellIndex < Position.CELL_COUNT; cellIndex++) {
+            PlacedUnit unit = board.getUnitAtCell(cellIndex);
+            char symbol = getSymbol(unit);
+            char marker = unit != null && unit.isBlocking() ? SYMBOL_BLOCK : SYMBOL_EMPTY;
+            if (symbol != this.cellSymbols[cellIndex] || marker != this.cellMarkers[cellIndex]) {
+                this.cellSymbols[cellIndex] = symbol;
+                this.cellMarkers[cellIndex] = marker;
+                int offset = this.cellOffsets[cellIndex];
+                this.template[offset + 1] = symbol;
+                this.template[offset + 2] = marker;
             }
-            builder.append(System.lineSeparator());
         }
-        builder.append(StringConstants.COLUMN_FOOTER).append(System.lineSeparator());
-        return builder.toString();
     }
 
-    private static String getCellContent(PlacedUnit unit) {
+    /**
+     * Formats whatever has to be printed once no more boards will be formatted.
+     * @return The closing output, which is empty for plain boards
+     */
+    public String formatClosing() {
+        return StringConstants.EMPTY_STRING;
+    }
+
+    private static char getSymbol(PlacedUnit unit) {
         if (unit == null) {
             return SYMBOL_EMPTY;
         }
-
-        String cellContent;
         boolean isPlayer = unit.getOwner() == PlayerType.PLAYER;
-
         if (unit.isKing()) {
-            cellContent = isPlayer ? SYMBOL_PLAYER_KING : SYMBOL_ENEMY_KING;
-        } else {
-            cellContent = isPlayer ? SYMBOL_PLAYER : SYMBOL_ENEMY;
+            return isPlayer ? SYMBOL_PLAYER_KING : SYMBOL_ENEMY_KING;
         }
-
-        if (unit.isBlocking()) {
-            cellContent += SYMBOL_BLOCK;
-        }
-
-        return cellContent;
+        return isPlayer ? SYMBOL_PLAYER : SYMBOL_ENEMY;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,9 @@
 package edu.kit.assignmentone.ui;
 
+import edu.kit.assignmentone.model.AIStrategy;
 import edu.kit.assignmentone.model.Game;
-import edu.kit.assignmentone.model.AIEngine;
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.event.GameEventPublisher;
 import edu.kit.assignmentone.ui.commands.Command;
 import edu.kit.assignmentone.ui.commands.HandCommand;
 import edu.kit.assignmentone.ui.commands.MoveCommand;
@@ -15,10 +16,16 @@ import edu.kit.assignmentone.ui.commands.YieldCommand;
 import edu.kit.assignmentone.ui.commands.BoardCommand;
 import edu.kit.assignmentone.ui.commands.BlockCommand;
 import edu.kit.assignmentone.ui.commands.FlipCommand;
+import edu.kit.assignmentone.ui.commands.HintCommand;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles the user input and executes the corresponding commands.
@@ -29,75 +36,142 @@ import java.util.Scanner;
 public class CommandHandler {
 
     private static final String COMMAND_NOT_FOUND_ERROR = "Command not recognised.";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
 
     private final Game game;
+    private final AIStrategy enemyStrategy;
     private final List<Command> commandsList;
+    private final Map<Character, List<Command>> commandsByInitial;
+    private final CommandLine commandLine;
+    private final ConsoleOutput console;
+    private final BoardFormatter boardFormatter;
+    private final GameEventPublisher eventPublisher;
 
     /**
-     * Creates a new CommandHandler.
+     * Creates a new CommandHandler and lets it print the events of the game.
      *
      * @param game The game model
+     * @param enemyStrategy The strategy playing the enemy turns
+     * @param verbosity The amount of narration to print
+     * @param terminalMode The way boards are drawn
      */
-    public CommandHandler(Game game) {
+    public CommandHandler(Game game, AIStrategy enemyStrategy, Verbosity verbosity, TerminalMode terminalMode) {
         this.game = game;
+        this.enemyStrategy = enemyStrategy;
         this.commandsList = new ArrayList<>();
+        this.commandsByInitial = new HashMap<>();
+        this.commandLine = new CommandLine();
+        this.console = new ConsoleOutput();
+        this.boardFormatter = terminalMode.createBoardFormatter();
         initializeCommands();
+
+        this.eventPublisher = new GameEventPublisher();
+        if (verbosity != Verbosity.SILENT) {
+            this.eventPublisher.subscribe(new ConsoleRenderer(game, verbosity, this.console, this.boardFormatter));
+        }
+        game.setEventSink(this.eventPublisher);
     }
 
     private void initializeCommands() {
-        this.commandsList.add(new QuitCommand(this.game));
-        this.commandsList.add(new StateCommand(this.game));
-        this.commandsList.add(new ShowCommand(this.game));
-        this.commandsList.add(new SelectCommand(this.game));
-        this.commandsList.add(new PlaceCommand(this.game));
-        this.commandsList.add(new MoveCommand(this.game));
-        this.commandsList.add(new HandCommand(this.game));
-        this.commandsList.add(new YieldCommand(this.game));
-        this.commandsList.add(new BoardCommand(this.game));
-        this.commandsList.add(new BlockCommand(this.game));
-        this.commandsList.add(new FlipCommand(this.game));
+        this.commandsList.add(new QuitCommand(this.game, this.console));
+        this.commandsList.add(new StateCommand(this.game, this.console));
+        this.commandsList.add(new ShowCommand(this.game, this.console));
+        this.commandsList.add(new SelectCommand(this.game, this.console, this.boardFormatter));
+        this.commandsList.add(new PlaceCommand(this.game, this.console));
+        this.commandsList.add(new MoveCommand(this.game, this.console));
+        this.commandsList.add(new HandCommand(this.game, this.console));
+        this.commandsList.add(new YieldCommand(this.game, this.console));
+        this.commandsList.add(new BoardCommand(this.game, this.console, this.boardFormatter));
+        this.commandsList.add(new BlockCommand(this.game, this.console));
+        this.commandsList.add(new FlipCommand(this.game, this.console));
+        this.commandsList.add(new HintCommand(this.game, this.console));
+
+        for (Command command : this.commandsList) {
+            this.commandsByInitial.computeIfAbsent(command.getKeyword().charAt(0), initial -> new ArrayList<>()).add(command);
+        }
     }
 
     /**
-     * Starts the input loop.
+     * Starts the input loop on the standard input. The buffered output is flushed after every command
+     * and enemy turn, before waiting for input and when the loop ends.
      */
     public void handleUserInput() {
-        System.out.println(StringConstants.MESSAGE_HELP);
         try (Scanner scanner = new Scanner(System.in)) {
+            runCommands(new ScannerCommandSource(scanner));
+        }
+    }
+
+    /**
+     * Runs the commands of a script file until the game ends, as if they were typed in. The output
+     * is only flushed when the buffer is full, an error is printed or the script has ended, and the
+     * number of commands per second is reported on the error stream afterwards.
+     *
+     * @param scriptPath The path of the script
+     * @throws IOException If the script cannot be read
+     */
+    public void runScript(Path scriptPath) throws IOException {
+        CommandSource source = new ScriptCommandSource(scriptPath);
+        long startTime = System.nanoTime();
+        int commandCount = runCommands(source);
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        this.console.printStatus(String.format(StringConstants.FORMAT_SCRIPT_SUMMARY, commandCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandCount * NANOS_PER_SECOND / elapsedNanos));
+    }
+
+    private int runCommands(CommandSource source) {
+        this.console.println(StringConstants.MESSAGE_HELP);
+        int commandCount = 0;
+        try {
             while (this.game.isRunning()) {
                 if (this.game.isEnemyTurn()) {
-                    AIEngine.playTurn(this.game);
-                } else if (scanner.hasNextLine()) {
-                    String input = scanner.nextLine().trim();
-                    if (!input.isEmpty()) {
-                        executeCommand(input);
-                    }
+                    this.enemyStrategy.playTurn(this.game);
+                    flushIfInteractive(source);
                 } else {
-                    this.game.quit();
+                    flushIfInteractive(source);
+                    if (source.nextCommand(this.commandLine)) {
+                        executeCommand();
+                        commandCount++;
+                    } else {
+                        this.game.quit();
+                    }
                 }
             }
+        } finally {
+            this.eventPublisher.close();
+            this.console.print(this.boardFormatter.formatClosing());
+            this.console.flush();
         }
+        return commandCount;
     }
 
-    private void executeCommand(String input) {
-        boolean commandFound = false;
-        for (Command command : this.commandsList) {
-            if (input.matches(command.getCommandRegularExpression())) {
-                commandFound = true;
-                String[] arguments = input.split(StringConstants.PATTERN_WHITESPACE);
-                String[] argumentsOnly = new String[arguments.length - 1];
-                System.arraycopy(arguments, 1, argumentsOnly, 0, arguments.length - 1);
+    private void flushIfInteractive(CommandSource source) {
+        if (source.isInteractive()) {
+            this.console.flush();
+        }
+    }
 
-                try {
-                    command.execute(argumentsOnly);
-                } catch (IllegalStateException | IllegalArgumentException exception) {
-                    System.err.println(StringConstants.ERROR_PREFIX + exception.getMessage());
+    private void executeCommand() {
+        Command command = findCommand(this.commandLine);
+        if (command == null) {
+            this.console.printError(COMMAND_NOT_FOUND_ERROR);
+            return;
+        }
+        try {
+            command.execute(this.commandLine);
+        } catch (IllegalStateException | IllegalArgumentException exception) {
+            this.console.printError(exception.getMessage());
+        }
+    }
+
+    private Command findCommand(CommandLine line) {
+        List<Command> candidates = this.commandsByInitial.get(line.getInitial());
+        if (candidates != null) {
+            for (Command command : candidates) {
+                if (line.isKeyword(command.getKeyword())) {
+                    return command.accepts(line) ? command : null;
                 }
-                break;
             }
         }
-        if (!commandFound) {
-            System.err.println(StringConstants.ERROR_PREFIX + COMMAND_NOT_FOUND_ERROR);
-        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.board.Position;
+
+/**
+ * A reusable tokenizer for one line of user input. The line is split into tokens at spaces in a
+ * single pass that only records the token bounds, so that keywords, numbers and positions can be
+ * checked and parsed without creating substrings or running regular expressions. The line may be
+ * a range of a larger character sequence, such as a whole script.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class CommandLine {
+
+    private static final char SEPARATOR = ' ';
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int DECIMAL_RADIX = 10;
+    private static final int POSITION_LENGTH = 2;
+
+    private CharSequence input = StringConstants.EMPTY_STRING;
+    private int[] tokenStarts = new int[INITIAL_CAPACITY];
+    private int[] tokenEnds = new int[INITIAL_CAPACITY];
+    private int tokenCount;
+    private boolean singleSpaced;
+
+    /**
+     * Splits a line into tokens, replacing the previous line.
+     *
+     * @param input The trimmed, non-empty line
+     */
+    public void tokenize(String input) {
+        tokenize(input, 0, input.length());
+    }
+
+    /**
+     * Splits a range of characters into tokens, replacing the previous line.
+     *
+     * @param input The characters, which must not change while the line is in use
+     * @param start The index of the first character of the line
+     * @param end   The index after the last character, so that the range is trimmed and non-empty
+     */
+    public void tokenize(CharSequence input, int start, int end) {
+        this.input = input;
+        this.tokenCount = 0;
+        this.singleSpaced = true;
+        int index = start;
+        while (index < end) {
+            int tokenStart = index;
+            while (index < end && input.charAt(index) != SEPARATOR) {
+                index++;
+            }
+            addToken(tokenStart, index);
+            if (index + 1 < end && input.charAt(index + 1) == SEPARATOR) {
+                this.singleSpaced = false;
+            }
+            while (index < end && input.charAt(index) == SEPARATOR) {
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Checks if the first token is exactly the given keyword.
+     *
+     * @param keyword The keyword
+     * @return True if the line starts with the keyword as a whole token
+     */
+    public boolean isKeyword(String keyword) {
+        int start = this.tokenStarts[0];
+        if (this.tokenEnds[0] - start != keyword.length()) {
+            return false;
+        }
+        for (int index = 0; index < keyword.length(); index++) {
+            if (this.input.charAt(start + index) != keyword.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the first character of the line, which selects the candidate commands.
+     *
+     * @return The first character
+     */
+    public char getInitial() {
+        return this.input.charAt(this.tokenStarts[0]);
+    }
+
+    /**
+     * Gets the number of tokens after the keyword.
+     *
+     * @return The argument count
+     */
+    public int getArgumentCount() {
+        return this.tokenCount - 1;
+    }
+
+    /**
+     * Checks if all tokens are separated by exactly one space.
+     *
+     * @return True if no separator is longer than one space
+     */
+    public boolean isSingleSpaced() {
+        return this.singleSpaced;
+    }
+
+    /**
+     * Checks if an argument consists of decimal digits only.
+     *
+     * @param argumentIndex The index of the argument, starting at 0
+     * @return True if the argument is a number
+     */
+    public boolean isNumber(int argumentIndex) {
+        int token = argumentIndex + 1;
+        for (int index = this.tokenStarts[token]; index < this.tokenEnds[token]; index++) {
+            if (!isDigit(this.input.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if every argument consists of decimal digits only.
+     *
+     * @return True if all arguments are numbers
+     */
+    public boolean hasOnlyNumbers() {
+        for (int argumentIndex = 0; argumentIndex < getArgumentCount(); argumentIndex++) {
+            if (!isNumber(argumentIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if an argument has the shape of a position, a letter followed by a digit.
+     *
+     * @param argumentIndex The index of the argument, starting at 0
+     * @return True if the argument looks like a position, which may still be out of bounds
+     */
+    public boolean isPosition(int argumentIndex) {
+        int token = argumentIndex + 1;
+        int start = this.tokenStarts[token];
+        if (this.tokenEnds[token] - start != POSITION_LENGTH) {
+            return false;
+        }
+        char letter = this.input.charAt(start);
+        return (letter >= 'a' && letter <= 'z' || letter >= 'A' && letter <= 'Z') && isDigit(this.input.charAt(start + 1));
+    }
+
+    /**
+     * Parses an argument that {@link #isNumber(int)} accepted.
+     *
+     * @param argumentIndex The index of the argument, starting at 0
+     * @return The value
+     * @throws NumberFormatException If the value does not fit into an int, with the message of {@link Integer#parseInt(String)}
+     */
+    public int parseNumber(int argumentIndex) {
+        int token = argumentIndex + 1;
+        int value = 0;
+        for (int index = this.tokenStarts[token]; index < this.tokenEnds[token]; index++) {
+            int digit = this.input.charAt(index) - '0';
+            if (value > (Integer.MAX_VALUE - digit) / DECIMAL_RADIX) {
+                throw new NumberFormatException(String.format(StringConstants.FORMAT_NUMBER_INPUT, getArgument(argumentIndex)));
+            }
+            value = value * DECIMAL_RADIX + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses an argument that {@link #isPosition(int)} accepted.
+     *
+     * @param argumentIndex The index of the argument, starting at 0
+     * @return The position
+     * @throws IllegalArgumentException If the position is out of bounds
+     */
+    public Position parsePosition(int argumentIndex) {
+        int start = this.tokenStarts[argumentIndex + 1];
+        return Position.fromCharacters(this.input.charAt(start), this.input.charAt(start + 1));
+    }
+
+    /**
+     * Gets an argument as a string.
+     *
+     * @param argumentIndex The index of the argument, starting at 0
+     * @return The argument
+     */
+    public String getArgument(int argumentIndex) {
+        return this.input.subSequence(this.tokenStarts[argumentIndex + 1], this.tokenEnds[argumentIndex + 1]).toString();
+    }
+
+    private void addToken(int start, int end) {
+        if (this.tokenCount == this.tokenStarts.length) {
+            int capacity = this.tokenCount * 2;
+            int[] starts = new int[capacity];
+            int[] ends = new int[capacity];
+            System.arraycopy(this.tokenStarts, 0, starts, 0, this.tokenCount);
+            System.arraycopy(this.tokenEnds, 0, ends, 0, this.tokenCount);
+            this.tokenStarts = starts;
+            this.tokenEnds = ends;
+        }
+        this.tokenStarts[this.tokenCount] = start;
+        this.tokenEnds[this.tokenCount] = end;
+        this.tokenCount++;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
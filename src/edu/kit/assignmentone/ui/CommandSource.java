@@ -0,0 +1,27 @@
+package edu.kit.assignmentone.ui;
+
+/**
+ * A source of command lines for the input loop.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+interface CommandSource {
+
+    /**
+     * Reads the next non-blank line into the given command line.
+     *
+     * @param commandLine The command line to tokenize the line into
+     * @return True if a line was read, false if the input has ended
+     */
+    boolean nextCommand(CommandLine commandLine);
+
+    /**
+     * Checks if a user is waiting for the output of each command, so it has to be flushed before reading.
+     *
+     * @return True for interactive sources
+     */
+    default boolean isInteractive() {
+        return true;
+    }
+}
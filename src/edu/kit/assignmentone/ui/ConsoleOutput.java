@@ -0,0 +1,95 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.StringConstants;
+
+import java.io.BufferedOutputStream;
+import java.io.PrintStream;
+
+/**
+ * The output channel of one game. Regular output is collected in a large buffer and only written
+ * to the console at the flush points of the input loop, instead of once per line. Error messages
+ * are written immediately, after flushing the buffered output, so both streams stay in order.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class ConsoleOutput {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final PrintStream output;
+    private final PrintStream errorOutput;
+
+    /**
+     * Creates a new channel writing to the standard streams.
+     */
+    public ConsoleOutput() {
+        this(System.out, System.err);
+    }
+
+    /**
+     * Creates a new channel writing to the given streams.
+     *
+     * @param standardOutput The stream for regular output, which is buffered
+     * @param errorOutput    The stream for error messages
+     */
+    public ConsoleOutput(PrintStream standardOutput, PrintStream errorOutput) {
+        this.output = new PrintStream(new BufferedOutputStream(standardOutput, BUFFER_SIZE), false, standardOutput.charset());
+        this.errorOutput = errorOutput;
+    }
+
+    /**
+     * Appends text to the buffered output.
+     *
+     * @param text The text
+     */
+    public void print(String text) {
+        this.output.print(text);
+    }
+
+    /**
+     * Appends a line to the buffered output.
+     *
+     * @param line The line without its line separator
+     */
+    public void println(String line) {
+        this.output.println(line);
+    }
+
+    /**
+     * Appends formatted text to the buffered output.
+     *
+     * @param format    The format string
+     * @param arguments The format arguments
+     */
+    public void printf(String format, Object... arguments) {
+        this.output.printf(format, arguments);
+    }
+
+    /**
+     * Flushes the buffered output and prints an error message.
+     *
+     * @param message The message without the error prefix
+     */
+    public void printError(String message) {
+        flush();
+        this.errorOutput.println(StringConstants.ERROR_PREFIX + message);
+    }
+
+    /**
+     * Flushes the buffered output and prints a status line that is not part of the game output.
+     *
+     * @param line The line without its line separator
+     */
+    public void printStatus(String line) {
+        flush();
+        this.errorOutput.println(line);
+    }
+
+    /**
+     * Writes all buffered output to the console.
+     */
+    public void flush() {
+        this.output.flush();
+    }
+}
@@ -0,0 +1,128 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.event.DamageDealt;
+import edu.kit.assignmentone.model.event.DeckExhausted;
+import edu.kit.assignmentone.model.event.DuelStarted;
+import edu.kit.assignmentone.model.event.GameEvent;
+import edu.kit.assignmentone.model.event.GameWon;
+import edu.kit.assignmentone.model.event.LifePointsDepleted;
+import edu.kit.assignmentone.model.event.SelectionChanged;
+import edu.kit.assignmentone.model.event.TurnStarted;
+import edu.kit.assignmentone.model.event.UnionFailed;
+import edu.kit.assignmentone.model.event.UnionSucceeded;
+import edu.kit.assignmentone.model.event.UnitBlocked;
+import edu.kit.assignmentone.model.event.UnitDiscarded;
+import edu.kit.assignmentone.model.event.UnitEliminated;
+import edu.kit.assignmentone.model.event.UnitFlipped;
+import edu.kit.assignmentone.model.event.UnitMoved;
+import edu.kit.assignmentone.model.event.UnitPlaced;
+import edu.kit.assignmentone.model.event.UnitUnblocked;
+import edu.kit.assignmentone.model.event.UnitsJoining;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Prints the events of a game to the console in the format of the assignment.
+ * Boards are only formatted if the verbosity asks for them. In coalesced mode, the boards of an enemy
+ * turn are held back and only the last one is shown once the turn ends.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public final class ConsoleRenderer implements Flow.Subscriber<GameEvent> {
+
+    private final Game game;
+    private final Verbosity verbosity;
+    private final ConsoleOutput console;
+    private final BoardFormatter boardFormatter;
+    private Position pendingSelection;
+    private String pendingInformation;
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param game      The game, used to show the board after an action
+     * @param verbosity The verbosity level
+     * @param console   The output channel of the game
+     * @param boardFormatter The formatter of the game board
+     */
+    public ConsoleRenderer(Game game, Verbosity verbosity, ConsoleOutput console, BoardFormatter boardFormatter) {
+        this.game = game;
+        this.verbosity = verbosity;
+        this.console = console;
+        this.boardFormatter = boardFormatter;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(GameEvent event) {
+        if (this.pendingInformation != null && (event instanceof UnitDiscarded || event instanceof TurnStarted
+                || event instanceof DeckExhausted)) {
+            printPendingSelection();
+        }
+        switch (event) {
+            case UnitPlaced placed -> this.console.printf(StringConstants.FORMAT_PLACES,
+                    placed.player().getDisplayName(), placed.unitName(), placed.position());
+            case UnitMoved moved -> this.console.printf(StringConstants.FORMAT_MOVES_TO, moved.unitName(), moved.position());
+            case UnitBlocked blocked -> this.console.printf(StringConstants.FORMAT_BLOCKS, blocked.unitName(), blocked.position());
+            case UnitUnblocked unblocked -> this.console.printf(StringConstants.FORMAT_NO_LONGER_BLOCKS, unblocked.unitName());
+            case UnitFlipped flipped -> this.console.printf(StringConstants.FORMAT_FLIPPED,
+                    flipped.unitName(), flipped.attack(), flipped.defense(), flipped.position());
+            case UnitsJoining joining -> this.console.printf(StringConstants.FORMAT_JOIN_FORCES,
+                    joining.joiningName(), joining.targetName(), joining.position());
+            case UnionSucceeded ignored -> this.console.println(StringConstants.SUCCESS_MESSAGE);
+            case UnionFailed failed -> this.console.printf(StringConstants.FORMAT_UNION_FAILED, failed.eliminatedName());
+            case DuelStarted duel -> printDuel(duel);
+            case UnitEliminated eliminated -> this.console.printf(StringConstants.FORMAT_ELIMINATED, eliminated.unitName());
+            case DamageDealt damage -> this.console.printf(StringConstants.FORMAT_DAMAGE, damage.victim().getDisplayName(), damage.damage());
+            case LifePointsDepleted depleted -> this.console.printf(StringConstants.FORMAT_DROPPED_ZERO, depleted.player().getDisplayName());
+            case DeckExhausted exhausted -> this.console.printf(StringConstants.FORMAT_NO_CARDS, exhausted.player().getDisplayName());
+            case GameWon won -> this.console.printf(StringConstants.FORMAT_WINS, won.winner().getDisplayName());
+            case TurnStarted turn -> this.console.printf(StringConstants.FORMAT_TURN, turn.player().getDisplayName());
+            case UnitDiscarded discarded -> this.console.print(discarded.unit().formatDiscardInformation(discarded.player()));
+            case SelectionChanged selection -> printSelection(selection.position());
+        }
+    }
+
+    private void printSelection(Position position) {
+        if (this.verbosity == Verbosity.COALESCED && this.game.isEnemyTurn()) {
+            this.pendingSelection = position;
+            this.pendingInformation = BoardFormatter.formatInformation(this.game, position);
+        } else if (this.verbosity.showsBoards()) {
+            this.console.print(this.boardFormatter.formatSelection(this.game, position));
+        }
+    }
+
+    private void printPendingSelection() {
+        this.console.print(this.boardFormatter.formatSelection(this.game.getBoard(), this.pendingSelection, this.pendingInformation));
+        this.pendingInformation = null;
+    }
+
+    private void printDuel(DuelStarted duel) {
+        String defenderName = duel.defenderHidden() ? StringConstants.NAME_HIDDEN_UNIT : duel.defenderName();
+        String attackerStatistics = String.format(StringConstants.FORMAT_STATISTICS, duel.attackerAttack(), duel.attackerDefense());
+        String defenderStatistics = duel.defenderHidden() || duel.defenderKing() ? StringConstants.EMPTY_STRING
+                : String.format(StringConstants.FORMAT_STATISTICS, duel.defenderAttack(), duel.defenderDefense());
+        this.console.printf(StringConstants.FORMAT_ATTACKS, duel.attackerName(), attackerStatistics,
+                defenderName, defenderStatistics, duel.position());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.console.printError(throwable.getMessage());
+    }
+
+    @Override
+    public void onComplete() {
+        if (this.pendingInformation != null) {
+            printPendingSelection();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package edu.kit.assignmentone.ui;
+
+import java.util.Scanner;
+
+/**
+ * Reads command lines from a scanner, usually on the standard input.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+final class ScannerCommandSource implements CommandSource {
+
+    private final Scanner scanner;
+
+    /**
+     * Creates a new source.
+     *
+     * @param scanner The scanner to read lines from
+     */
+    ScannerCommandSource(Scanner scanner) {
+        this.scanner = scanner;
+    }
+
+    @Override
+    public boolean nextCommand(CommandLine commandLine) {
+        while (this.scanner.hasNextLine()) {
+            String input = this.scanner.nextLine().trim();
+            if (!input.isEmpty()) {
+                commandLine.tokenize(input);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.StringConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads command lines from a memory-mapped script file. Lines are found and trimmed on the mapped
+ * bytes and tokenized in place, so that no string is created for a line unless one of its arguments
+ * is needed as text. Lines end at the same terminators as for a {@link java.util.Scanner}.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+final class ScriptCommandSource implements CommandSource {
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte NEXT_LINE_LEAD = (byte) 0xC2;
+    private static final byte NEXT_LINE_TRAIL = (byte) 0x85;
+    private static final byte SEPARATOR_LEAD = (byte) 0xE2;
+    private static final byte SEPARATOR_MIDDLE = (byte) 0x80;
+    private static final byte LINE_SEPARATOR_TRAIL = (byte) 0xA8;
+    private static final byte PARAGRAPH_SEPARATOR_TRAIL = (byte) 0xA9;
+    private static final int WHITESPACE_LIMIT = ' ';
+
+    private final MappedByteBuffer script;
+    private final CharSequence characters;
+    private final int limit;
+    private int position;
+
+    /**
+     * Maps a script file into memory.
+     *
+     * @param scriptPath The path of the script
+     * @throws IOException If the file cannot be read
+     * @throws IllegalArgumentException If the file is too large to be mapped at once
+     */
+    ScriptCommandSource(Path scriptPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(scriptPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(StringConstants.ERROR_SCRIPT_SIZE);
+            }
+            this.script = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        this.characters = new ByteCharacters(this.script);
+        this.limit = this.script.limit();
+    }
+
+    @Override
+    public boolean nextCommand(CommandLine commandLine) {
+        while (this.position < this.limit) {
+            int start = this.position;
+            int end = start;
+            int terminatorLength = 0;
+            while (end < this.limit && (terminatorLength = getTerminatorLength(end)) == 0) {
+                end++;
+            }
+            this.position = end + terminatorLength;
+
+            while (start < end && isWhitespace(this.script.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(this.script.get(end - 1))) {
+                end--;
+            }
+            if (start < end) {
+                commandLine.tokenize(this.characters, start, end);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return false;
+    }
+
+    private int getTerminatorLength(int index) {
+        byte value = this.script.get(index);
+        if (value == LINE_FEED) {
+            return 1;
+        }
+        if (value == CARRIAGE_RETURN) {
+            return hasByteAt(index + 1, LINE_FEED) ? 2 : 1;
+        }
+        if (value == NEXT_LINE_LEAD && hasByteAt(index + 1, NEXT_LINE_TRAIL)) {
+            return 2;
+        }
+        if (value == SEPARATOR_LEAD && hasByteAt(index + 1, SEPARATOR_MIDDLE)
+                && (hasByteAt(index + 2, LINE_SEPARATOR_TRAIL) || hasByteAt(index + 2, PARAGRAPH_SEPARATOR_TRAIL))) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private boolean hasByteAt(int index, byte value) {
+        return index < this.limit && this.script.get(index) == value;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value >= 0 && value <= WHITESPACE_LIMIT;
+    }
+
+    /**
+     * The bytes of the script seen as characters. Bytes outside of ASCII are never part of a keyword,
+     * number or position, so they only have to be decoded when an argument is turned into a string.
+     */
+    private record ByteCharacters(ByteBuffer bytes) implements CharSequence {
+
+        @Override
+        public int length() {
+            return this.bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (this.bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            byte[] range = new byte[end - start];
+            this.bytes.get(start, range);
+            return new String(range, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
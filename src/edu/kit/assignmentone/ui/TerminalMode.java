@@ -0,0 +1,46 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.StringConstants;
+
+/**
+ * The ways the board can be drawn on the terminal.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public enum TerminalMode {
+    /** Prints the complete board after each action. */ PLAIN("plain"),
+    /** Keeps the board at the top of an interactive terminal and only redraws changed cells. */ ANSI("ansi");
+
+    private final String identifier;
+
+    TerminalMode(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Parses a string to the corresponding terminal mode.
+     *
+     * @param modeString The string representation of the terminal mode
+     * @return The terminal mode
+     * @throws IllegalArgumentException if the mode is unknown
+     */
+    public static TerminalMode fromString(String modeString) {
+        for (TerminalMode mode : values()) {
+            if (mode.identifier.equalsIgnoreCase(modeString)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(StringConstants.ERROR_ARGUMENT_FORMAT);
+    }
+
+    /**
+     * Creates the board formatter for this mode. The ANSI mode falls back to the plain
+     * formatter if the standard output is not an interactive terminal.
+     *
+     * @return The board formatter
+     */
+    public BoardFormatter createBoardFormatter() {
+        return this == ANSI && System.console() != null ? new AnsiBoardFormatter() : new BoardFormatter();
+    }
+}
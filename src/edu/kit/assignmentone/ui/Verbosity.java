@@ -0,0 +1,48 @@
+package edu.kit.assignmentone.ui;
+
+import edu.kit.assignmentone.model.StringConstants;
+
+/**
+ * The amount of narration printed while the game runs. Answers to query commands
+ * and error messages are printed at every level.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public enum Verbosity {
+    /** Narrates every event and shows the board after each action. */ ALL("all"),
+    /** Narrates every event, but shows the board only once at the end of each enemy turn. */ COALESCED("coalesced"),
+    /** Narrates every event without showing the board after actions. */ COMPACT("compact"),
+    /** Narrates nothing, so no events are created at all. */ SILENT("silent");
+
+    private final String identifier;
+
+    Verbosity(String identifier) {
+        this.identifier = identifier;
+    }
+
+    /**
+     * Checks if the board is shown after actions.
+     *
+     * @return True if boards are shown, at least once per turn
+     */
+    public boolean showsBoards() {
+        return this == ALL || this == COALESCED;
+    }
+
+    /**
+     * Parses a string to the corresponding verbosity.
+     *
+     * @param verbosityString The string representation of the verbosity
+     * @return The verbosity
+     * @throws IllegalArgumentException if the verbosity is unknown
+     */
+    public static Verbosity fromString(String verbosityString) {
+        for (Verbosity verbosity : values()) {
+            if (verbosity.identifier.equalsIgnoreCase(verbosityString)) {
+                return verbosity;
+            }
+        }
+        throw new IllegalArgumentException(StringConstants.ERROR_ARGUMENT_FORMAT);
+    }
+}
@@ -3,6 +3,8 @@ package edu.kit.assignmentone.ui.commands;
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
 import edu.kit.assignmentone.ui.BoardFormatter;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to print the current board.
@@ -12,19 +14,24 @@ import edu.kit.assignmentone.ui.BoardFormatter;
  */
 public class BoardCommand extends Command {
 
+    private final BoardFormatter boardFormatter;
+
     /**
      * Creates a new board command.
      * @param game The game instance
+     * @param console The output channel of the game
+     * @param boardFormatter The formatter of the game board
      */
-    public BoardCommand(Game game) {
-        super(StringConstants.COMMAND_BOARD, game);
+    public BoardCommand(Game game, ConsoleOutput console, BoardFormatter boardFormatter) {
+        super(StringConstants.COMMAND_BOARD, game, console);
+        this.boardFormatter = boardFormatter;
     }
 
     @Override
-    public void execute(String[] arguments) {
-        if (arguments.length > 0) {
+    public void execute(CommandLine commandLine) {
+        if (commandLine.getArgumentCount() > 0) {
             throw new IllegalArgumentException(StringConstants.ERROR_NO_ARGUMENTS);
         }
-        System.out.print(BoardFormatter.formatBoard(this.getGame().getBoard(), this.getGame().getSelectedPosition()));
+        this.getConsole().print(this.boardFormatter.formatBoard(this.getGame().getBoard(), this.getGame().getSelectedPosition()));
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package edu.kit.assignmentone.ui.commands;
 
 import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Abstract base class for all commands.
@@ -11,26 +13,40 @@ import edu.kit.assignmentone.model.Game;
 public abstract class Command {
 
     private final Game game;
-    private final String commandRegularExpression;
+    private final String keyword;
+    private final ConsoleOutput console;
 
     /**
      * Creates a new Command.
      *
-     * @param commandRegularExpression The regular expression to match the command
+     * @param keyword The first token of the command
      * @param game The game model
+     * @param console The output channel of the game
      */
-    protected Command(String commandRegularExpression, Game game) {
-        this.commandRegularExpression = commandRegularExpression;
+    protected Command(String keyword, Game game, ConsoleOutput console) {
+        this.keyword = keyword;
         this.game = game;
+        this.console = console;
     }
 
     /**
-     * Returns the regex pattern for this command.
+     * Returns the keyword this command is dispatched by.
      *
-     * @return The regex string
+     * @return The keyword
      */
-    public String getCommandRegularExpression() {
-        return this.commandRegularExpression;
+    public String getKeyword() {
+        return this.keyword;
+    }
+
+    /**
+     * Checks if the arguments of a line starting with the keyword have the syntax of this command.
+     * By default, a command does not take any arguments.
+     *
+     * @param commandLine The tokenized line
+     * @return True if the line is a valid use of this command
+     */
+    public boolean accepts(CommandLine commandLine) {
+        return commandLine.getArgumentCount() == 0;
     }
 
     /**
@@ -42,10 +58,19 @@ public abstract class Command {
         return this.game;
     }
 
+    /**
+     * Returns the output channel the command prints to.
+     *
+     * @return The output channel
+     */
+    protected ConsoleOutput getConsole() {
+        return this.console;
+    }
+
     /**
      * Executes the command.
      *
-     * @param arguments The command arguments
+     * @param commandLine The tokenized line, which this command accepts
      */
-    public abstract void execute(String[] arguments);
-}
\ No newline at end of file
+    public abstract void execute(CommandLine commandLine);
+}
@@ -2,10 +2,11 @@ package edu.kit.assignmentone.ui.commands;
 
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
-import edu.kit.assignmentone.model.board.Board;
-import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.FlipAction;
 import edu.kit.assignmentone.model.board.Position;
-import edu.kit.assignmentone.ui.BoardFormatter;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to flip the selected unit.
@@ -18,32 +19,24 @@ public class FlipCommand extends Command {
     /**
      * Creates a new flip command.
      * @param game The game instance
+     * @param console The output channel of the game
      */
-    public FlipCommand(Game game) {
-        super(StringConstants.COMMAND_FLIP, game);
+    public FlipCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_FLIP, game, console);
     }
 
     @Override
-    public void execute(String[] arguments) {
-        if (arguments.length > 0) {
+    public void execute(CommandLine commandLine) {
+        if (commandLine.getArgumentCount() > 0) {
             throw new IllegalArgumentException(StringConstants.ERROR_NO_ARGUMENTS);
         }
         Game currentGame = this.getGame();
-        Board board = currentGame.getBoard();
         Position selectedPosition = currentGame.getSelectedPosition();
 
-        if (selectedPosition == null || board.isEmpty(selectedPosition)) {
+        if (selectedPosition == null || currentGame.getBoard().isEmpty(selectedPosition)) {
             throw new IllegalStateException(StringConstants.ERROR_NO_SELECTION);
         }
 
-        PlacedUnit unit = board.getUnitAt(selectedPosition).orElseThrow();
-        unit.requireValidMove(0, unit);
-
-        if (unit.flipIfCovered()) {
-            unit.setMoved(true);
-            System.out.printf(StringConstants.FORMAT_FLIPPED, unit.getName(), unit.getAttack(), unit.getDefense(), selectedPosition);
-            System.out.print(BoardFormatter.formatBoard(board, selectedPosition));
-            System.out.println(unit.formatInformation(currentGame));
-        }
+        ActionExecutor.perform(currentGame, new FlipAction(selectedPosition));
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,8 @@ package edu.kit.assignmentone.ui.commands;
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
 import edu.kit.assignmentone.model.player.Player;
-import edu.kit.assignmentone.model.units.Unit;
-
-import java.util.List;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to show the current hand of the active player.
@@ -18,23 +17,21 @@ public class HandCommand extends Command {
     /**
      * Creates a new hand command.
      * @param game The game to execute the command on
+     * @param console The output channel of the game
      */
-    public HandCommand(Game game) {
-        super(StringConstants.COMMAND_HAND, game);
+    public HandCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_HAND, game, console);
     }
 
     @Override
-    public void execute(String[] arguments) {
-        if (arguments.length > 0) {
+    public void execute(CommandLine commandLine) {
+        if (commandLine.getArgumentCount() > 0) {
             throw new IllegalArgumentException(StringConstants.ERROR_NO_ARGUMENTS);
         }
 
         Player activePlayer = this.getGame().getActivePlayerObject();
-        List<Unit> handUnits = activePlayer.getHand();
-        int handSize = handUnits.size();
-
-        for (int index = 0; index < handSize; index++) {
-            System.out.print(handUnits.get(index).formatHandInformation(index + 1));
+        for (int index = 0; index < activePlayer.getHandSize(); index++) {
+            this.getConsole().print(activePlayer.formatHandInformation(index));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package edu.kit.assignmentone.ui.commands;
+
+import edu.kit.assignmentone.model.Game;
+import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.board.PlacedUnit;
+import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.model.player.Player;
+import edu.kit.assignmentone.model.search.PlacementPlan;
+import edu.kit.assignmentone.model.search.PlacementSolver;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
+
+/**
+ * Command to show the order of hand units that leaves the strongest unit on the selected field.
+ *
+ * @author uqhkm
+ * @version 1.0
+ */
+public class HintCommand extends Command {
+
+    /**
+     * Creates a new hint command.
+     * @param game The game to execute the command on
+     * @param console The output channel of the game
+     */
+    public HintCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_HINT, game, console);
+    }
+
+    @Override
+    public void execute(CommandLine commandLine) {
+        if (commandLine.getArgumentCount() > 0) {
+            throw new IllegalArgumentException(StringConstants.ERROR_NO_ARGUMENTS);
+        }
+
+        Game currentGame = this.getGame();
+        Position targetPosition = currentGame.getSelectedPosition();
+        if (targetPosition == null) {
+            throw new IllegalStateException(StringConstants.ERROR_NO_SELECTION_PLACE);
+        }
+        Player activePlayer = currentGame.getActivePlayerObject();
+        PlacedUnit targetUnit = currentGame.getBoard().getUnitAt(targetPosition).orElse(null);
+        if (targetUnit != null && targetUnit.getOwner() != activePlayer.getType()) {
+            throw new IllegalStateException(StringConstants.ERROR_OCCUPIED_BY_ENEMY);
+        }
+        if (targetUnit != null && targetUnit.isKing()) {
+            throw new IllegalStateException(StringConstants.ERROR_HINT_ON_KING);
+        }
+        if (activePlayer.hasPlacedThisTurn()) {
+            throw new IllegalStateException(StringConstants.ERROR_ALREADY_PLACED);
+        }
+        if (targetUnit == null && activePlayer.getBoardCount() >= Player.MAXIMUM_BOARD_CAPACITY) {
+            throw new IllegalStateException(StringConstants.ERROR_MAXIMUM_BOARD_CAPACITY);
+        }
+
+        PlacementPlan plan = PlacementSolver.solve(activePlayer, targetUnit, currentGame.getBoard().getUnionTable());
+        if (!plan.placesUnits()) {
+            this.getConsole().println(StringConstants.MESSAGE_NO_HINT);
+            return;
+        }
+        StringBuilder indices = new StringBuilder();
+        for (int handIndex : plan.handIndices()) {
+            indices.append(String.format(StringConstants.FORMAT_HINT_INDEX, handIndex + 1));
+        }
+        this.getConsole().printf(StringConstants.FORMAT_HINT, indices, plan.attack(), plan.defense());
+    }
+}
@@ -2,6 +2,8 @@ package edu.kit.assignmentone.ui.commands;
 
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to quit the game.
@@ -14,13 +16,14 @@ public class QuitCommand extends Command {
     /**
      * Creates a new quit command.
      * @param game The game to execute the command on
+     * @param console The output channel of the game
      */
-    public QuitCommand(Game game) {
-        super(StringConstants.COMMAND_QUIT, game);
+    public QuitCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_QUIT, game, console);
     }
 
     @Override
-    public void execute(String[] arguments) {
+    public void execute(CommandLine commandLine) {
         this.getGame().quit();
     }
 }
\ No newline at end of file
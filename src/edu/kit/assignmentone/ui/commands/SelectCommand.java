@@ -2,12 +2,10 @@ package edu.kit.assignmentone.ui.commands;
 
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
-import edu.kit.assignmentone.model.board.Board;
-import edu.kit.assignmentone.model.board.PlacedUnit;
 import edu.kit.assignmentone.model.board.Position;
 import edu.kit.assignmentone.ui.BoardFormatter;
-
-import java.util.Optional;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to select a position on the board and show its details.
@@ -17,24 +15,23 @@ import java.util.Optional;
  */
 public class SelectCommand extends Command {
 
-    public SelectCommand(Game game) {
-        super(StringConstants.PATTERN_SELECT, game);
+    private final BoardFormatter boardFormatter;
+
+    public SelectCommand(Game game, ConsoleOutput console, BoardFormatter boardFormatter) {
+        super(StringConstants.COMMAND_SELECT, game, console);
+        this.boardFormatter = boardFormatter;
     }
 
     @Override
-    public void execute(String[] arguments) {
-        Position position = Position.fromString(arguments[0]);
-        Game currentGame = this.getGame();
-        Board board = currentGame.getBoard();
+    public boolean accepts(CommandLine commandLine) {
+        return commandLine.getArgumentCount() == 1 && commandLine.isSingleSpaced() && commandLine.isPosition(0);
+    }
 
+    @Override
+    public void execute(CommandLine commandLine) {
+        Position position = commandLine.parsePosition(0);
+        Game currentGame = this.getGame();
         currentGame.setSelectedPosition(position);
-        System.out.print(BoardFormatter.formatBoard(board, position));
-
-        Optional<PlacedUnit> unitOptional = board.getUnitAt(position);
-        if (unitOptional.isPresent()) {
-            System.out.println(unitOptional.get().formatInformation(currentGame));
-        } else {
-            System.out.println(StringConstants.NO_UNIT_SELECTED);
-        }
+        this.getConsole().print(this.boardFormatter.formatSelection(currentGame, position));
     }
 }
\ No newline at end of file
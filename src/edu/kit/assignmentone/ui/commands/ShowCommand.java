@@ -4,6 +4,8 @@ import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
 import edu.kit.assignmentone.model.board.PlacedUnit;
 import edu.kit.assignmentone.model.board.Position;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 import java.util.Optional;
 
@@ -15,13 +17,13 @@ import java.util.Optional;
  */
 public class ShowCommand extends Command {
 
-    public ShowCommand(Game game) {
-        super(StringConstants.COMMAND_SHOW, game);
+    public ShowCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_SHOW, game, console);
     }
 
     @Override
-    public void execute(String[] arguments) {
-        if (arguments.length > 0) {
+    public void execute(CommandLine commandLine) {
+        if (commandLine.getArgumentCount() > 0) {
             throw new IllegalArgumentException(StringConstants.ERROR_NO_ARGUMENTS);
         }
 
@@ -29,13 +31,13 @@ public class ShowCommand extends Command {
         Position selectedPosition = currentGame.getSelectedPosition();
 
         if (selectedPosition == null) {
-            System.out.println(StringConstants.NO_UNIT_SELECTED);
+            this.getConsole().println(StringConstants.NO_UNIT_SELECTED);
         } else {
             Optional<PlacedUnit> unitOptional = currentGame.getBoard().getUnitAt(selectedPosition);
             if (unitOptional.isPresent()) {
-                System.out.println(unitOptional.get().formatInformation(currentGame));
+                this.getConsole().println(unitOptional.get().formatInformation(currentGame));
             } else {
-                System.out.println(StringConstants.NO_UNIT_SELECTED);
+                this.getConsole().println(StringConstants.NO_UNIT_SELECTED);
             }
         }
     }
@@ -2,6 +2,8 @@ package edu.kit.assignmentone.ui.commands;
 
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to show the current state (LP, DC, BC) of both players.
@@ -14,19 +16,20 @@ public class StateCommand extends Command {
     /**
      * Creates a new state command.
      * @param game The game to execute the command on
+     * @param console The output channel of the game
      */
-    public StateCommand(Game game) {
-        super(StringConstants.COMMAND_STATE, game);
+    public StateCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_STATE, game, console);
     }
 
     @Override
-    public void execute(String[] arguments) {
-        if (arguments.length > 0) {
+    public void execute(CommandLine commandLine) {
+        if (commandLine.getArgumentCount() > 0) {
             throw new IllegalArgumentException(StringConstants.ERROR_NO_ARGUMENTS);
         }
 
         Game currentGame = this.getGame();
-        System.out.println(currentGame.getHumanPlayer().formatStateInformation());
-        System.out.println(currentGame.getEnemyPlayer().formatStateInformation());
+        this.getConsole().println(currentGame.getHumanPlayer().formatStateInformation());
+        this.getConsole().println(currentGame.getEnemyPlayer().formatStateInformation());
     }
 }
\ No newline at end of file
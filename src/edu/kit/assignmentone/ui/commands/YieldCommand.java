@@ -2,8 +2,11 @@ package edu.kit.assignmentone.ui.commands;
 
 import edu.kit.assignmentone.model.Game;
 import edu.kit.assignmentone.model.StringConstants;
+import edu.kit.assignmentone.model.action.ActionExecutor;
+import edu.kit.assignmentone.model.action.YieldAction;
 import edu.kit.assignmentone.model.player.Player;
-import edu.kit.assignmentone.model.units.Unit;
+import edu.kit.assignmentone.ui.CommandLine;
+import edu.kit.assignmentone.ui.ConsoleOutput;
 
 /**
  * Command to end the current turn and optionally discard a card.
@@ -16,19 +19,30 @@ public class YieldCommand extends Command {
     /**
      * Creates a new yield command.
      * @param game The game to execute the command on
+     * @param console The output channel of the game
      */
-    public YieldCommand(Game game) {
-        super(StringConstants.PATTERN_YIELD, game);
+    public YieldCommand(Game game, ConsoleOutput console) {
+        super(StringConstants.COMMAND_YIELD, game, console);
     }
 
     @Override
-    public void execute(String[] arguments) {
+    public boolean accepts(CommandLine commandLine) {
+        int argumentCount = commandLine.getArgumentCount();
+        return argumentCount == 0 || argumentCount == 1 && commandLine.isNumber(0);
+    }
+
+    @Override
+    public void execute(CommandLine commandLine) {
         Game currentGame = this.getGame();
-        Player activePlayer = currentGame.getActivePlayerObject();
-        Unit discardedUnit = activePlayer.processYield(arguments);
-        if (discardedUnit != null) {
-            System.out.print(discardedUnit.formatDiscardInformation(activePlayer.getType()));
+        currentGame.getActivePlayerObject().requireValidYield(commandLine.getArgumentCount() > 0);
+
+        int discardIndex = Player.NO_DISCARD;
+        if (commandLine.getArgumentCount() > 0) {
+            discardIndex = commandLine.parseNumber(0) - 1;
+            if (discardIndex < 0) {
+                throw new IllegalArgumentException(StringConstants.ERROR_INVALID_INDEX);
+            }
         }
-        currentGame.switchTurn();
+        ActionExecutor.perform(currentGame, new YieldAction(discardIndex));
     }
-}
\ No newline at end of file
+}